@@ -27,6 +27,7 @@ public class ExamplesRunner {
             case "12", "running" -> RunningTotalsExample.main(new String[]{});
             case "13", "multifield" -> MultiFieldSortExample.main(new String[]{});
             case "14", "sort" -> SortingExample.main(new String[]{});
+            case "sortbench" -> SortingExample.benchmark();
             case "15", "flatmap" -> FlatMapExample.main(new String[]{});
             case "16", "lazy" -> LazyEvaluationExample.main(new String[]{});
             case "17", "reverse" -> ReverseAndAnagramExample.main(new String[]{});
@@ -89,6 +90,7 @@ public class ExamplesRunner {
         System.out.println("  15 or flatmap      - FlatMap (Flatten Nested Collections)");
         System.out.println("  16 or lazy         - Lazy Evaluation (Deferred Execution)");
         System.out.println("  17 or reverse      - Reverse Integer/String & Find Anagrams");
+        System.out.println("  sortbench          - Sort engine timings on 1M orders (not part of 'all')");
         System.out.println("  all                - Run all examples\n");
         System.out.println("Examples:");
         System.out.println("  java -cp target/streams-1.0-SNAPSHOT.jar com.test.ExamplesRunner 1");
@@ -0,0 +1,181 @@
+package com.test.controller;
+
+import com.test.dto.DocumentInput;
+import com.test.dto.StreamResult;
+import com.test.service.InvertedIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST API Controller for document search built on the word-frequency tokenizer.
+ * 
+ * <h2>Overview</h2>
+ * Scanning every text with streams to find a word is O(total text) per query. This controller
+ * instead maintains an inverted index at ingest time:
+ * <ul>
+ *     <li><strong>Ingest:</strong> documents are tokenized exactly like /api/practical/word-frequency</li>
+ *     <li><strong>Index:</strong> term dictionary plus delta-encoded, variable-byte postings lists</li>
+ *     <li><strong>Search:</strong> AND/OR queries answered by posting-list intersection/union</li>
+ * </ul>
+ * 
+ * @author Practical Stream Examples
+ * @version 1.0
+ * @see InvertedIndexService Shared index state
+ * @see StreamResult Result wrapper for all endpoints
+ */
+@RestController
+@RequestMapping("/api/documents")
+@Tag(
+    name = "Document Index",
+    description = """
+        Inverted index over ingested documents
+        
+        - Ingest: tokenize documents like the word-frequency endpoint
+        - Search: term lookup with AND/OR posting-list intersection and union
+        
+        Queries never rescan document text."""
+)
+public class DocumentIndexController {
+
+    private final InvertedIndexService indexService;
+
+    public DocumentIndexController(InvertedIndexService indexService) {
+        this.indexService = indexService;
+    }
+
+    /**
+     * Adds documents to the inverted index.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Document Numbers:</strong> assigned in ingest order, so postings lists stay sorted and append-only</li>
+     *     <li><strong>Delta Encoding:</strong> postings store gaps between document numbers as variable-length bytes</li>
+     *     <li><strong>Distinct Terms:</strong> each document is added once per term, however often the term occurs</li>
+     * </ul>
+     * 
+     * @param documents Documents with an ID and text
+     * @return StreamResult containing index statistics (documents, terms, postings size)
+     */
+    @PostMapping
+    @Operation(
+        summary = "Index documents",
+        description = """
+            Tokenizes each document (case-insensitive, split on non-word characters)
+            and appends its number to the postings list of every distinct term.
+            Returns the index size after ingestion."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully indexed documents",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Index Response",
+                value = """
+                    {
+                      "approach": "Inverted Index",
+                      "result": {
+                        "indexed": 3,
+                        "documents": 3,
+                        "terms": 14,
+                        "postingsBytes": 17
+                      },
+                      "executionTimeMs": 1
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult indexDocuments(
+        @Parameter(
+            description = "Documents to index. The ID is returned by searches; if omitted, the document number is used.",
+            required = true,
+            example = """
+                [
+                  {"id": "D1", "text": "Java streams make data processing concise"},
+                  {"id": "D2", "text": "Parallel streams split data across cores"},
+                  {"id": "D3", "text": "Collectors group and count data"}
+                ]
+                """
+        )
+        @RequestBody List<DocumentInput> documents
+    ) {
+        long start = System.nanoTime();
+        
+        Map<String, Object> stats = indexService.index(documents);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Inverted Index", stats, time);
+    }
+
+    /**
+     * Finds documents containing all (AND) or any (OR) of the given terms.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>AND:</strong> intersects postings starting from the shortest list, stopping early when empty</li>
+     *     <li><strong>OR:</strong> merges sorted postings lists into their union</li>
+     *     <li><strong>Normalization:</strong> query terms are tokenized and lowercased like indexed text</li>
+     * </ul>
+     * 
+     * @param terms Query terms
+     * @param operator AND or OR
+     * @return StreamResult containing matching document IDs in ingest order
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search documents by terms",
+        description = """
+            Looks up each term in the term dictionary and combines postings lists:
+            - AND: documents containing every term (posting-list intersection)
+            - OR: documents containing any term (posting-list union)"""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully searched the index",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Search Response",
+                value = """
+                    {
+                      "approach": "Inverted Index (AND)",
+                      "result": ["D1", "D2"],
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult searchDocuments(
+        @Parameter(
+            description = "Comma-separated query terms (case-insensitive)",
+            example = "streams,data",
+            required = true
+        )
+        @RequestParam List<String> terms,
+        
+        @Parameter(
+            description = "How terms are combined: AND (all terms) or OR (any term)",
+            example = "AND"
+        )
+        @RequestParam(defaultValue = "AND") InvertedIndexService.Operator operator
+    ) {
+        long start = System.nanoTime();
+        
+        List<String> matches = indexService.search(terms, operator);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Inverted Index (" + operator + ")", matches, time);
+    }
+}
@@ -0,0 +1,299 @@
+package com.test.controller;
+
+import com.test.dto.OrderInput;
+import com.test.dto.StreamResult;
+import com.test.service.InvertedIndexService;
+import com.test.service.ItemIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST API Controller for item analytics over ingested orders.
+ * 
+ * <h2>Overview</h2>
+ * FlatMapExample flattens {@code Order.getItems()} and rescans every order for each question. This
+ * controller instead maintains an item -> order index at ingest time:
+ * <ul>
+ *     <li><strong>Ingest:</strong> each order's items are dictionary-encoded and appended to per-item postings</li>
+ *     <li><strong>Orders:</strong> orders containing all (AND) or any (OR) of the given items</li>
+ *     <li><strong>Stats:</strong> distinct item count and the items found in the most orders</li>
+ *     <li><strong>Co-occurrence:</strong> items most often ordered together with a given item</li>
+ * </ul>
+ * 
+ * @author Practical Stream Examples
+ * @version 1.0
+ * @see ItemIndexService Shared index state
+ * @see StreamResult Result wrapper for all endpoints
+ */
+@RestController
+@RequestMapping("/api/items")
+@Tag(
+    name = "Item Index",
+    description = """
+        Inverted item -> order index over ingested orders
+        
+        - Ingest: dictionary-encode items and append order numbers to their postings
+        - Orders: AND/OR item lookup by posting-list intersection and union
+        - Stats / Co-occurrence: distinct items, most-ordered items, items bought together
+        
+        Queries never rescan the orders."""
+)
+public class ItemIndexController {
+
+    private final ItemIndexService itemIndexService;
+
+    public ItemIndexController(ItemIndexService itemIndexService) {
+        this.itemIndexService = itemIndexService;
+    }
+
+    /**
+     * Adds orders' items to the item index.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Dictionary Encoding:</strong> each item name is stored once and referred to by a dense id</li>
+     *     <li><strong>Delta Encoding:</strong> postings store gaps between order numbers as variable-length bytes</li>
+     *     <li><strong>Distinct Items:</strong> an item listed twice in one order is indexed once for it</li>
+     * </ul>
+     * 
+     * @param orderInputs Orders with an ID and items
+     * @return StreamResult containing index statistics (orders, distinct items, postings size)
+     */
+    @PostMapping("/orders")
+    @Operation(
+        summary = "Index order items",
+        description = """
+            Appends each order's number to the postings list of every distinct item
+            in it and records the order's item ids for co-occurrence queries.
+            Returns the index size after ingestion."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully indexed orders",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Index Response",
+                value = """
+                    {
+                      "approach": "Item Index",
+                      "result": {
+                        "indexed": 3,
+                        "orders": 3,
+                        "distinctItems": 4,
+                        "postingsBytes": 7
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult indexOrders(
+        @Parameter(
+            description = "Orders to index. The ID is returned by searches; if omitted, the order number is used.",
+            required = true,
+            example = """
+                [
+                  {"id": "O1", "customerId": "C1", "amount": 150.50, "status": "COMPLETED", "items": ["Item1", "Item2"]},
+                  {"id": "O2", "customerId": "C2", "amount": 89.99, "status": "PENDING", "items": ["Item1", "Item3"]},
+                  {"id": "O3", "customerId": "C1", "amount": 200.00, "status": "COMPLETED", "items": ["Item1", "Item2", "Item4"]}
+                ]
+                """
+        )
+        @RequestBody List<OrderInput> orderInputs
+    ) {
+        long start = System.nanoTime();
+        
+        Map<String, Object> stats = itemIndexService.index(orderInputs);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Item Index", stats, time);
+    }
+
+    /**
+     * Finds orders containing all (AND) or any (OR) of the given items.
+     * 
+     * @param items Item names (exact match)
+     * @param operator AND or OR
+     * @return StreamResult containing matching order IDs in ingest order
+     */
+    @GetMapping("/orders")
+    @Operation(
+        summary = "Find orders by items",
+        description = """
+            Looks up each item in the item dictionary and combines postings lists:
+            - AND: orders containing every item (posting-list intersection)
+            - OR: orders containing any item (posting-list union)"""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully searched the index",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Orders Response",
+                value = """
+                    {
+                      "approach": "Item Index (AND)",
+                      "result": ["O1", "O3"],
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult findOrders(
+        @Parameter(
+            description = "Comma-separated item names (exact, case-sensitive)",
+            example = "Item1,Item2",
+            required = true
+        )
+        @RequestParam List<String> items,
+        
+        @Parameter(
+            description = "How items are combined: AND (all items) or OR (any item)",
+            example = "AND"
+        )
+        @RequestParam(defaultValue = "AND") InvertedIndexService.Operator operator
+    ) {
+        long start = System.nanoTime();
+        
+        List<String> matches = itemIndexService.search(items, operator);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Item Index (" + operator + ")", matches, time);
+    }
+
+    /**
+     * Returns the distinct item count and the items found in the most orders.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>No Decoding:</strong> an item's order count is its postings list size</li>
+     *     <li><strong>Bounded Heap:</strong> only the top {@code limit} items are ordered</li>
+     * </ul>
+     * 
+     * @param limit Number of top items to return
+     * @return StreamResult containing order count, distinct item count and top items
+     */
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Distinct and most-ordered items",
+        description = """
+            Returns the number of indexed orders, the number of distinct items and
+            the 'limit' items contained in the most orders (ties by name)."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully computed item statistics",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Stats Response",
+                value = """
+                    {
+                      "approach": "Item Index",
+                      "result": {
+                        "orders": 3,
+                        "distinctItems": 4,
+                        "topItems": {"Item1": 3, "Item2": 2, "Item3": 1, "Item4": 1}
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult itemStats(
+        @Parameter(description = "Number of most-ordered items to return", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        requirePositive(limit);
+        long start = System.nanoTime();
+        
+        Map<String, Object> stats = itemIndexService.stats(limit);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Item Index", stats, time);
+    }
+
+    /**
+     * Returns the items most often ordered together with {@code item}.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Postings Scan:</strong> only the orders containing {@code item} are visited</li>
+     *     <li><strong>Compact Order Items:</strong> each visited order's item ids come from a flat int[],
+     *         counted in a dense array indexed by item id</li>
+     * </ul>
+     * 
+     * @param item Item name (exact match)
+     * @param limit Number of companion items to return
+     * @return StreamResult containing the item's order count and its most frequent companions
+     */
+    @GetMapping("/co-occurrence")
+    @Operation(
+        summary = "Items ordered together with an item",
+        description = """
+            For every order containing 'item', counts the other items in that order.
+            Returns the 'limit' most frequent companions (ties by name) with the
+            number of orders they share with 'item'."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully computed co-occurrence",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Co-occurrence Response",
+                value = """
+                    {
+                      "approach": "Item Co-occurrence",
+                      "result": {
+                        "item": "Item1",
+                        "orders": 3,
+                        "coOccurring": {"Item2": 2, "Item3": 1, "Item4": 1}
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult coOccurrence(
+        @Parameter(description = "Item name (exact, case-sensitive)", example = "Item1", required = true)
+        @RequestParam String item,
+        
+        @Parameter(description = "Number of companion items to return", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        requirePositive(limit);
+        long start = System.nanoTime();
+        
+        Map<String, Object> result = itemIndexService.coOccurrence(item, limit);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Item Co-occurrence", result, time);
+    }
+
+    private static void requirePositive(int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive: " + limit);
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.test.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.dto.OrderInput;
+import com.test.dto.StreamResult;
+import com.test.model.Order;
+import com.test.service.LocalFileResolver;
+import com.test.util.ExternalSorter;
+import com.test.util.NormalizedKeySorter;
+import com.test.util.OrderCodec;
+import com.test.util.OrderSortSpec;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * REST API Controller for multi-field order sorting at scale.
+ * 
+ * <h2>Overview</h2>
+ * SortingExample chains {@code Comparator.comparing(...).thenComparing(...)}, which re-extracts and
+ * re-compares every field (boxing numbers) on each of the O(n log n) comparisons. These endpoints
+ * encode each order once into a binary-comparable key and sort the keys instead:
+ * <ul>
+ *     <li><strong>Sort:</strong> full multi-field sort via normalized keys</li>
+ *     <li><strong>Top:</strong> first N rows of the same ordering via bounded heaps (sort-limit)</li>
+ *     <li><strong>File:</strong> sort an NDJSON order file larger than the heap with spilled runs and a
+ *         k-way merge, streaming the sorted output</li>
+ * </ul>
+ * 
+ * <h2>Sort Specification</h2>
+ * The {@code by} parameter lists fields in precedence order, each optionally suffixed with
+ * {@code :asc} or {@code :desc}: {@code id}, {@code status}, {@code customerId}, {@code amount},
+ * {@code items} (number of items).
+ * 
+ * @author Practical Stream Examples
+ * @version 1.0
+ * @see com.test.examples.SortingExample The comparator-chain examples
+ * @see StreamResult Result wrapper for all endpoints
+ */
+@RestController
+@RequestMapping("/api/orders")
+@Tag(
+    name = "Order Sorting",
+    description = """
+        Multi-field order sorting with normalized (binary-comparable) keys
+        
+        - Sort: full sort by any combination of id, status, customerId, amount, items (asc/desc)
+        - Top: first N orders of that ordering without sorting everything
+        - File: external sort of an NDJSON order file, streamed back as NDJSON
+        
+        Keys are encoded once per order and compared like memcmp."""
+)
+public class OrderSortController {
+
+    private final LocalFileResolver fileResolver;
+    private final ObjectMapper objectMapper;
+
+    public OrderSortController(LocalFileResolver fileResolver, ObjectMapper objectMapper) {
+        this.fileResolver = fileResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Sorts orders by a multi-field specification.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Normalized Keys:</strong> each order becomes one byte[] whose unsigned byte order equals
+     *         the requested field order (strings terminated, numbers sign-flipped big-endian, descending
+     *         fields bit-inverted)</li>
+     *     <li><strong>Encode Once:</strong> fields are read n times instead of on every comparison</li>
+     *     <li><strong>memcmp Compare:</strong> Arrays.compareUnsigned uses a vectorized mismatch search</li>
+     *     <li><strong>Stable Parallel Sort:</strong> Arrays.parallelSort keeps equal keys in input order</li>
+     * </ul>
+     * 
+     * @param orderInputs Orders to sort
+     * @param by Sort fields in precedence order, e.g. status,customerId,amount:desc
+     * @return StreamResult containing the sorted orders
+     * 
+     * @see NormalizedKeySorter Key encoding and sorting
+     */
+    @PostMapping("/sort")
+    @Operation(
+        summary = "Sort orders by multiple fields",
+        description = """
+            Sorts orders by the fields in 'by' (first field has highest precedence):
+            1. Encode: One binary-comparable key per order
+            2. Sort: Stable parallel sort of (key, position) pairs with unsigned byte comparison
+            3. Emit: Orders in key order
+            
+            Fields: id, status, customerId, amount, items; suffix :desc for descending."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully sorted orders",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Sorted Orders Response",
+                value = """
+                    {
+                      "approach": "Normalized Key Sort",
+                      "result": [
+                        {"id": "O1", "customerId": "C1", "amount": 150.5, "status": "COMPLETED", "items": ["Item1"]},
+                        {"id": "O3", "customerId": "C1", "amount": 200.0, "status": "COMPLETED", "items": ["Item4"]},
+                        {"id": "O2", "customerId": "C2", "amount": 89.99, "status": "PENDING", "items": ["Item3"]}
+                      ],
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult sortOrders(
+        @Parameter(
+            description = "Orders to sort",
+            required = true,
+            example = """
+                [
+                  {"id": "O1", "customerId": "C1", "amount": 150.50, "status": "COMPLETED", "items": ["Item1"]},
+                  {"id": "O2", "customerId": "C2", "amount": 89.99, "status": "PENDING", "items": ["Item3"]},
+                  {"id": "O3", "customerId": "C1", "amount": 200.00, "status": "COMPLETED", "items": ["Item4"]}
+                ]
+                """
+        )
+        @RequestBody List<OrderInput> orderInputs,
+        
+        @Parameter(
+            description = "Comma-separated sort fields in precedence order: id, status, customerId, amount, items; append :desc for descending",
+            example = "status,customerId,amount:desc"
+        )
+        @RequestParam(defaultValue = "id") List<String> by
+    ) {
+        NormalizedKeySorter<Order> sorter = parseSpec(by);
+        
+        long start = System.nanoTime();
+        
+        List<Order> sorted = sorter.sort(convertToOrders(orderInputs));
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Normalized Key Sort", sorted, time);
+    }
+
+    /**
+     * Returns the first {@code limit} orders of a multi-field ordering (sort-limit).
+     * 
+     * <h3>Use Case</h3>
+     * "Largest 50 orders" style pages, where sorting the whole dataset and truncating wastes work.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Bounded Heap:</strong> each chunk keeps its best {@code limit} orders in a max-heap,
+     *         O(n log limit) instead of O(n log n)</li>
+     *     <li><strong>Allocation-Free Rejects:</strong> keys are encoded into a scratch buffer and only copied
+     *         when they beat the heap's worst entry</li>
+     *     <li><strong>Parallel Chunks:</strong> per-chunk heaps run in parallel; the chunks x limit survivors
+     *         are sorted at the end</li>
+     *     <li><strong>Same Order as Sort:</strong> the result equals the first {@code limit} orders of
+     *         /sort, including ties</li>
+     * </ul>
+     * 
+     * @param orderInputs Orders to select from
+     * @param by Sort fields in precedence order
+     * @param limit Number of orders to return
+     * @return StreamResult containing the first {@code limit} orders
+     * 
+     * @see NormalizedKeySorter#top(List, int) Sort-limit implementation
+     */
+    @PostMapping("/sort/top")
+    @Operation(
+        summary = "First N orders by multiple fields",
+        description = """
+            Returns the first 'limit' orders of the ordering given by 'by':
+            1. Chunk: Split orders into chunks (in parallel for large inputs)
+            2. Heap: Keep the best 'limit' keys of each chunk in a bounded max-heap
+            3. Merge: Sort the surviving candidates and keep the first 'limit'
+            
+            Same fields and ordering as /sort; cost grows with n log(limit), not n log(n)."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully selected top orders",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Top Orders Response",
+                value = """
+                    {
+                      "approach": "Bounded Heap Sort-Limit",
+                      "result": [
+                        {"id": "O5", "customerId": "C2", "amount": 320.75, "status": "COMPLETED", "items": ["Item8"]},
+                        {"id": "O3", "customerId": "C1", "amount": 200.0, "status": "COMPLETED", "items": ["Item4"]}
+                      ],
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult topOrders(
+        @Parameter(
+            description = "Orders to select from",
+            required = true,
+            example = """
+                [
+                  {"id": "O1", "customerId": "C1", "amount": 150.50, "status": "COMPLETED", "items": ["Item1"]},
+                  {"id": "O3", "customerId": "C1", "amount": 200.00, "status": "COMPLETED", "items": ["Item4"]},
+                  {"id": "O5", "customerId": "C2", "amount": 320.75, "status": "COMPLETED", "items": ["Item8"]}
+                ]
+                """
+        )
+        @RequestBody List<OrderInput> orderInputs,
+        
+        @Parameter(
+            description = "Comma-separated sort fields in precedence order: id, status, customerId, amount, items; append :desc for descending",
+            example = "amount:desc"
+        )
+        @RequestParam(defaultValue = "amount:desc") List<String> by,
+        
+        @Parameter(description = "Number of orders to return", example = "50")
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive: " + limit);
+        }
+        NormalizedKeySorter<Order> sorter = parseSpec(by);
+        
+        long start = System.nanoTime();
+        
+        List<Order> top = sorter.top(convertToOrders(orderInputs), limit);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Bounded Heap Sort-Limit", top, time);
+    }
+
+    /**
+     * Sorts an order file that may be larger than the heap and streams the result.
+     * 
+     * <h3>Use Case</h3>
+     * Exports and batch jobs over order histories that do not fit in memory.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>In-Memory Fast Path:</strong> if the file fits in one run it is sorted with a stable
+     *         Arrays.parallelSort over normalized keys, without touching disk</li>
+     *     <li><strong>Spilled Runs:</strong> otherwise each {@code runSize} orders are sorted in parallel and
+     *         written to a temp file as (key, binary order) records</li>
+     *     <li><strong>K-Way Merge:</strong> runs are merged by comparing the stored keys as bytes; more than
+     *         128 runs are first reduced by intermediate merge passes</li>
+     *     <li><strong>Streaming Output:</strong> sorted orders are written as NDJSON while the merge runs, so
+     *         the result is never collected in memory</li>
+     * </ul>
+     * 
+     * @param path NDJSON file of orders (one OrderInput object per line), relative to the base directory
+     * @param by Sort fields in precedence order
+     * @param runSize Maximum number of orders held in memory per sorted run
+     * @return sorted orders as NDJSON, one per line
+     * 
+     * @see ExternalSorter Run generation and merge
+     */
+    @PostMapping("/sort/file")
+    @Operation(
+        summary = "External sort of an order file",
+        description = """
+            Sorts an NDJSON order file (one order object per line) by the fields in 'by':
+            1. Runs: Every 'runSize' orders are keyed, parallel-sorted and spilled to a temp file
+            2. Merge: Runs are k-way merged on their normalized keys (at most 128 files open at once)
+            3. Stream: Sorted orders are written as NDJSON as the merge produces them
+            
+            Inputs that fit in one run are parallel-sorted in memory. Ties keep file order.
+            A line that is not a valid order returns 400 with its line number.
+            The file path is resolved against practical.files.base-dir."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Sorted orders, one JSON object per line",
+        content = @Content(
+            mediaType = "application/x-ndjson",
+            examples = @ExampleObject(
+                name = "Sorted Orders Stream",
+                value = """
+                    {"id":"O5","customerId":"C2","amount":320.75,"status":"COMPLETED","items":["Item8"]}
+                    {"id":"O3","customerId":"C1","amount":200.0,"status":"COMPLETED","items":["Item4"]}
+                    {"id":"O1","customerId":"C1","amount":150.5,"status":"COMPLETED","items":["Item1"]}
+                    """
+            )
+        )
+    )
+    public ResponseEntity<StreamingResponseBody> sortOrderFile(
+        @Parameter(
+            description = "Path of the NDJSON order file, relative to the configured base directory (practical.files.base-dir)",
+            example = "orders/2024.ndjson",
+            required = true
+        )
+        @RequestParam String path,
+        
+        @Parameter(
+            description = "Comma-separated sort fields in precedence order: id, status, customerId, amount, items; append :desc for descending",
+            example = "amount:desc"
+        )
+        @RequestParam(defaultValue = "id") List<String> by,
+        
+        @Parameter(description = "Maximum number of orders held in memory per sorted run", example = "100000")
+        @RequestParam(defaultValue = "" + ExternalSorter.DEFAULT_RUN_SIZE) int runSize
+    ) {
+        if (runSize < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "runSize must be positive: " + runSize);
+        }
+        NormalizedKeySorter<Order> keys = parseSpec(by);
+        // Keys are computed once while reading and travel with each order through the spilled runs
+        ExternalSorter<NormalizedKeySorter.Keyed<Order>> sorter = new ExternalSorter<>(
+            NormalizedKeySorter.Keyed.order(), NormalizedKeySorter.Keyed.codec(OrderCodec.INSTANCE), runSize);
+        Path file = fileResolver.resolve(path);
+        
+        StreamingResponseBody body = output -> {
+            OutputStream out = new BufferedOutputStream(output, 64 * 1024);
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                sorter.sort(readOrders(reader, keys), keyed -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(keyed.value()));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+
+    /**
+     * Lazily parses one OrderInput JSON object per non-blank line and pairs it with its sort key.
+     * A line that is not a valid order fails with 400 naming its line number; the sorter reads all input
+     * before emitting anything, so the response has not been committed at that point.
+     */
+    private Iterator<NormalizedKeySorter.Keyed<Order>> readOrders(BufferedReader reader, NormalizedKeySorter<Order> keys) {
+        return new Iterator<>() {
+            private String line;
+            private long lineNumber;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (line == null) {
+                        String next = reader.readLine();
+                        if (next == null) {
+                            return false;
+                        }
+                        lineNumber++;
+                        if (!next.isBlank()) {
+                            line = next;
+                        }
+                    }
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public NormalizedKeySorter.Keyed<Order> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                OrderInput input;
+                try {
+                    input = objectMapper.readValue(line, OrderInput.class);
+                } catch (JsonProcessingException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid order on line " + lineNumber + ": " + e.getOriginalMessage());
+                }
+                line = null;
+                return keys.keyed(new Order(input.getId(), input.getCustomerId(), input.getAmount(), input.getStatus(), input.getItems()));
+            }
+        };
+    }
+
+    private static NormalizedKeySorter<Order> parseSpec(List<String> by) {
+        try {
+            return OrderSortSpec.parse(by);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static List<Order> convertToOrders(List<OrderInput> inputs) {
+        return inputs.stream()
+            .map(i -> new Order(i.getId(), i.getCustomerId(), i.getAmount(), i.getStatus(), i.getItems()))
+            .collect(Collectors.toList());
+    }
+}
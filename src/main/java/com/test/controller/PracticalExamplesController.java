@@ -1,15 +1,35 @@
 package com.test.controller;
 
 import com.test.dto.StreamResult;
+import com.test.service.LocalFileResolver;
+import com.test.service.TrendingWordsService;
+import com.test.util.ApproximateWordCounter;
+import com.test.util.CountMinSketch;
+import com.test.util.DistributionSummary;
+import com.test.util.DuplicateDetector;
+import com.test.util.ExternalSorter;
+import com.test.util.FuzzyDeduplicator;
+import com.test.util.MappedWordCounter;
+import com.test.util.NameNormalizer;
+import com.test.util.ParallelStringSorter;
+import com.test.util.ScoreBands;
+import com.test.util.WordCountTable;
+import com.test.util.WordTokenizer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -20,7 +40,7 @@ import java.util.stream.IntStream;
  * This controller provides endpoints demonstrating practical, production-ready patterns:
  * <ul>
  *     <li><strong>Data Cleaning (ETL):</strong> Normalize and deduplicate data</li>
- *     <li><strong>Text Analytics:</strong> Word frequency and NLP patterns</li>
+ *     <li><strong>Text Analytics:</strong> Word frequency and NLP patterns, including large local files and live trending words</li>
  *     <li><strong>Data Validation:</strong> Pattern-based validation with error collection</li>
  *     <li><strong>Partitioning:</strong> Binary classification (pass/fail, valid/invalid)</li>
  *     <li><strong>Cumulative Operations:</strong> Running totals for financial calculations</li>
@@ -67,6 +87,16 @@ import java.util.stream.IntStream;
 )
 public class PracticalExamplesController {
 
+    private static final Pattern VALID_ID = Pattern.compile("[A-Z]-\\d+");
+
+    private final LocalFileResolver fileResolver;
+    private final TrendingWordsService trendingWordsService;
+
+    public PracticalExamplesController(LocalFileResolver fileResolver, TrendingWordsService trendingWordsService) {
+        this.fileResolver = fileResolver;
+        this.trendingWordsService = trendingWordsService;
+    }
+
     /**
      * Normalizes, deduplicates, and sorts a list of names.
      * 
@@ -82,21 +112,39 @@ public class PracticalExamplesController {
      * <h3>Stream Operation Pipeline</h3>
      * <pre>
      * names.stream()
-     *   .map(name -> name.trim().toLowerCase(Locale.ROOT))  // Normalize: remove spaces, lowercase
+     *   .map(normalizer)                                     // Normalize: trim + configured rules
      *   .filter(name -> !name.isBlank())                     // Clean: remove empty strings
      *   .collect(Collectors.toCollection(TreeSet::new));     // Sort and deduplicate simultaneously
      * </pre>
      * 
      * <h3>Key Concepts & Optimization</h3>
      * <ul>
-     *     <li><strong>Normalization:</strong> trim() removes leading/trailing whitespace, toLowerCase() ensures case uniformity</li>
+     *     <li><strong>Normalization:</strong> {@link NameNormalizer} always trims; rules add NFKC, diacritic folding,
+     *         whitespace collapsing and case folding. Already-clean names are returned without allocating</li>
      *     <li><strong>Filtering:</strong> isBlank() catches both null and whitespace-only entries (Java 11+)</li>
      *     <li><strong>TreeSet Benefits:</strong> Provides BOTH deduplication AND alphabetical sorting in single pass</li>
      *     <li><strong>Locale.ROOT:</strong> Ensures consistent behavior across different system locales</li>
      *     <li><strong>Single-Pass Efficiency:</strong> TreeSet automatically maintains sorted unique set order</li>
      * </ul>
      * 
+     * <h3>Modes</h3>
+     * <ul>
+     *     <li><strong>treeset</strong> (default): the pipeline above, everything on heap</li>
+     *     <li><strong>external</strong>: bounded-memory sort - sorted runs of at most runSize names are
+     *         spilled to temp files and k-way merged with deduplication (see {@link ExternalSorter})</li>
+     *     <li><strong>parallel</strong>: in-heap, multi-core - parallel normalization into a String[],
+     *         Arrays.parallelSort, then a linear adjacent-dedup pass (see {@link ParallelStringSorter})</li>
+     *     <li><strong>fuzzy</strong>: exact dedup as in parallel mode, then near-duplicates ("jon smith" ~ "john smith")
+     *         are clustered by blocking on phonetic/prefix keys and comparing only within blocks using
+     *         Jaro-Winkler similarity (see {@link FuzzyDeduplicator}). The result maps each cluster's
+     *         representative to its members</li>
+     * </ul>
+     * 
      * @param names List of name strings with potential inconsistent formatting (mixed case, extra spaces)
+     * @param mode Sorting strategy: treeset, external, parallel or fuzzy
+     * @param runSize Maximum names held in memory per sorted run (external mode only)
+     * @param rules Normalization rules applied after trimming (default: FOLD_CASE)
+     * @param similarity Minimum Jaro-Winkler similarity for two names to be merged (fuzzy mode only)
      * @return StreamResult containing:
      *         <ul>
      *           <li>Sorted TreeSet of normalized unique names</li>
@@ -110,10 +158,19 @@ public class PracticalExamplesController {
         summary = "Normalize, deduplicate, and sort names",
         description = """
             Transforms a list of names through ETL pipeline:
-            1. Normalize: Trim whitespace, convert to lowercase
+            1. Normalize: Trim whitespace, then apply rules (default FOLD_CASE;
+               also NFKC, FOLD_DIACRITICS, COLLAPSE_WHITESPACE)
             2. Clean: Filter out blank entries
             3. Deduplicate & Sort: Use TreeSet for automatic deduplication and alphabetical sort
             
+            mode=external sorts in bounded memory: sorted runs are spilled to temp files
+            and merged with deduplication, for lists larger than the heap.
+            mode=parallel normalizes in parallel chunks, uses Arrays.parallelSort and
+            removes adjacent duplicates in a final linear pass.
+            mode=fuzzy additionally merges near-duplicates (e.g. "jon smith" / "john smith")
+            using phonetic and prefix blocking with Jaro-Winkler similarity, returning
+            clusters keyed by their representative name.
+            
             Perfect for data cleaning workflows."""
     )
     @ApiResponse(
@@ -139,19 +196,84 @@ public class PracticalExamplesController {
             example = "[\" Alice \", \"bob\", \"ALICE\", \"  \", \"charlie\"]",
             required = true
         )
-        @RequestBody List<String> names
+        @RequestBody List<String> names,
+        
+        @Parameter(
+            description = "Sorting strategy: treeset (in-heap TreeSet), external (spill sorted runs to disk and merge), parallel (parallel array sort + adjacent dedup) or fuzzy (cluster near-duplicate names)",
+            example = "treeset"
+        )
+        @RequestParam(defaultValue = "treeset") String mode,
+        
+        @Parameter(
+            description = "Maximum number of names held in memory per sorted run (external mode only)",
+            example = "100000"
+        )
+        @RequestParam(defaultValue = "100000") int runSize,
+        
+        @Parameter(
+            description = "Comma-separated normalization rules applied after trimming: NFKC, FOLD_DIACRITICS, COLLAPSE_WHITESPACE, FOLD_CASE",
+            example = "NFKC,FOLD_DIACRITICS,COLLAPSE_WHITESPACE,FOLD_CASE"
+        )
+        @RequestParam(defaultValue = "FOLD_CASE") Set<NameNormalizer.Rule> rules,
+        
+        @Parameter(
+            description = "Minimum Jaro-Winkler similarity (0-1) for two names to be considered duplicates (fuzzy mode only)",
+            example = "0.9"
+        )
+        @RequestParam(defaultValue = "0.9") double similarity
     ) {
         long start = System.nanoTime();
         
-        // Stream pipeline: normalize -> filter -> deduplicate & sort (all in one TreeSet)
-        Set<String> normalized = names.stream()
-            .map(name -> name.trim().toLowerCase(Locale.ROOT))         // Normalize: whitespace & case
-            .filter(name -> !name.isBlank())                           // Filter: remove empty strings
-            .collect(Collectors.toCollection(TreeSet::new));           // Collect: dedup + sort with TreeSet
+        NameNormalizer normalizer = NameNormalizer.of(rules);
+        Object normalized;
+        String approach;
+        switch (mode.toLowerCase(Locale.ROOT)) {
+            case "treeset" -> {
+                // Stream pipeline: normalize -> filter -> deduplicate & sort (all in one TreeSet)
+                normalized = names.stream()
+                    .map(normalizer)                                           // Normalize: trim + rules
+                    .filter(name -> !name.isBlank())                           // Filter: remove empty strings
+                    .collect(Collectors.toCollection(TreeSet::new));           // Collect: dedup + sort with TreeSet
+                approach = "Stream API";
+            }
+            case "external" -> {
+                // Same normalization, but sorted runs are spilled to disk and merged with dedup
+                Iterator<String> cleaned = names.stream()
+                    .map(normalizer)
+                    .filter(name -> !name.isBlank())
+                    .iterator();
+                if (runSize < 1) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "runSize must be positive: " + runSize);
+                }
+                List<String> sorted = new ArrayList<>();
+                try {
+                    ExternalSorter.forStrings(runSize).sortDistinct(cleaned, sorted::add);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                normalized = sorted;
+                approach = "External Merge Sort";
+            }
+            case "parallel" -> {
+                // Parallel normalize -> Arrays.parallelSort -> linear adjacent dedup
+                normalized = ParallelStringSorter.normalizeSortDistinct(names, normalizer);
+                approach = "Parallel Array Sort";
+            }
+            case "fuzzy" -> {
+                if (similarity < 0 || similarity > 1) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "similarity must be between 0 and 1");
+                }
+                // Exact dedup first, then blocking + Jaro-Winkler similarity join over the distinct names
+                List<String> distinct = ParallelStringSorter.normalizeSortDistinct(names, normalizer);
+                normalized = FuzzyDeduplicator.cluster(distinct, similarity);
+                approach = "Fuzzy Dedup (blocking + Jaro-Winkler)";
+            }
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown mode: " + mode);
+        }
         
         long time = (System.nanoTime() - start) / 1_000_000;
         
-        return new StreamResult("Stream API", normalized, time);
+        return new StreamResult(approach, normalized, time);
     }
 
     /**
@@ -177,7 +299,8 @@ public class PracticalExamplesController {
      *   ))
      *   .entrySet()
      *   .stream()
-     *   .sorted(Map.Entry.comparingByValue().reversed())        // Stage 2: Sort by frequency (descending)
+     *   .sorted(Map.Entry.comparingByValue().reversed()         // Stage 2: Sort by frequency (descending)
+     *       .thenComparing(Map.Entry.comparingByKey()))         //          ties by word (ascending)
      *   .limit(topN)                                            // Stage 3: Take top N
      *   .collect(Collectors.toMap(..., LinkedHashMap::new))     // Stage 4: Collect with order preserved
      * </pre>
@@ -187,18 +310,36 @@ public class PracticalExamplesController {
      *     <li><strong>Split Operation:</strong> \\W+ matches non-word characters (space, punctuation)</li>
      *     <li><strong>groupingBy() with Counting:</strong> Aggregates word occurrences into frequency map</li>
      *     <li><strong>entrySet() Stream:</strong> Converts map to stream of key-value pairs for sorting</li>
-     *     <li><strong>comparingByValue().reversed():</strong> Sorts by count in descending order (highest first)</li>
+     *     <li><strong>comparingByValue().reversed():</strong> Sorts by count in descending order (highest first);
+     *         thenComparing(comparingByKey()) breaks ties alphabetically so results are stable</li>
      *     <li><strong>limit():</strong> Lazy operation limiting to topN results before collection</li>
      *     <li><strong>LinkedHashMap:</strong> Preserves insertion/sort order in result map</li>
      *     <li><strong>Lazy Evaluation Benefit:</strong> Only top N words processed, rest discarded early</li>
      * </ul>
      * 
+     * <h3>Algorithms</h3>
+     * <ul>
+     *     <li><strong>topk</strong> (default): {@link WordTokenizer} scans the text once, lowercasing on the fly,
+     *         and feeds a primitive {@link WordCountTable}; the top N are then selected with a size-N min-heap,
+     *         O(n log N) instead of sorting the whole vocabulary</li>
+     *     <li><strong>scan</strong>: same tokenizer and count table, but sorts every distinct word</li>
+     *     <li><strong>stream</strong>: the split/groupingBy pipeline shown above</li>
+     *     <li><strong>approximate</strong>: constant memory regardless of vocabulary - Space-Saving selects the
+     *         top N and a Count-Min sketch answers point queries, both within epsilon * totalWords of the true
+     *         counts. Error bounds and memory are reported in the response (see {@link ApproximateWordCounter})</li>
+     * </ul>
+     * 
      * @param text Input text to analyze for word frequency
      * @param topN Number of top words to return (default: 3)
+     * @param algorithm Counting algorithm: topk, scan, stream or approximate
+     * @param epsilon Relative error bound for approximate counting
+     * @param delta Failure probability of the Count-Min error bound
+     * @param query Words to estimate with the Count-Min sketch (approximate only)
      * @return StreamResult containing:
      *         <ul>
      *           <li>LinkedHashMap with top N words as keys and frequencies as values</li>
-     *           <li>Ordered by frequency (highest first)</li>
+     *           <li>Ordered by frequency (highest first), ties by word (alphabetical); approximate results
+     *               are ordered by estimated count</li>
      *           <li>Execution time</li>
      *         </ul>
      * 
@@ -212,10 +353,16 @@ public class PracticalExamplesController {
             Pipeline stages:
             1. Tokenize: Split by non-word characters
             2. Count: Group words and tally occurrences
-            3. Sort: Order by frequency (descending)
+            3. Sort: Order by frequency (descending), ties by word (ascending)
             4. Limit: Take top N results
             5. Collect: Preserve order in result map
             
+            algorithm=topk (default) tokenizes in a single char-scanning pass into a
+            primitive count table and selects the top N with a bounded min-heap;
+            algorithm=scan sorts the full vocabulary instead; algorithm=stream uses
+            the regex split pipeline; algorithm=approximate uses Space-Saving and a
+            Count-Min sketch in constant memory and reports error bounds and memory use.
+            
             Demonstrates multi-stage stream pipeline."""
     )
     @ApiResponse(
@@ -227,11 +374,11 @@ public class PracticalExamplesController {
                 name = "Word Frequency Response",
                 value = """
                     {
-                      "approach": "Stream API",
+                      "approach": "Top-K Heap",
                       "result": {
                         "streams": 3,
                         "with": 2,
-                        "data": 2
+                        "and": 1
                       },
                       "executionTimeMs": 2
                     }
@@ -248,13 +395,80 @@ public class PracticalExamplesController {
         @RequestParam String text,
         
         @Parameter(
-            description = "Maximum number of top frequent words to return. Results are sorted by frequency in descending order.",
+            description = "Maximum number of top frequent words to return. Results are sorted by frequency in descending order, ties by word in ascending order.",
             example = "3"
         )
-        @RequestParam(defaultValue = "3") int topN
+        @RequestParam(defaultValue = "3") int topN,
+        
+        @Parameter(
+            description = "Counting algorithm: topk (tokenizer + primitive count table + bounded heap), scan (tokenizer + full sort), stream (regex split + groupingBy) or approximate (Space-Saving + Count-Min sketch, constant memory)",
+            example = "topk"
+        )
+        @RequestParam(defaultValue = "topk") String algorithm,
+        
+        @Parameter(
+            description = "Relative error bound for algorithm=approximate, at least 0.0001: counts are within epsilon * totalWords of the truth. Smaller values use more memory.",
+            example = "0.001"
+        )
+        @RequestParam(defaultValue = "0.001") double epsilon,
+        
+        @Parameter(
+            description = "Failure probability of the Count-Min error bound (algorithm=approximate only)",
+            example = "0.01"
+        )
+        @RequestParam(defaultValue = "0.01") double delta,
+        
+        @Parameter(
+            description = "Optional words to estimate individually with the Count-Min sketch (algorithm=approximate only)",
+            example = "streams,java"
+        )
+        @RequestParam(required = false) List<String> query
     ) {
         long start = System.nanoTime();
         
+        if ("approximate".equalsIgnoreCase(algorithm)) {
+            if (epsilon < CountMinSketch.MIN_EPSILON || epsilon >= 1 || delta <= 0 || delta >= 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "epsilon must be in [" + CountMinSketch.MIN_EPSILON + ", 1) and delta between 0 and 1");
+            }
+            // Constant memory: Space-Saving for top-K, Count-Min sketch for point queries
+            ApproximateWordCounter counter;
+            try {
+                counter = new ApproximateWordCounter(epsilon, delta);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+            WordTokenizer.tokenize(text, counter);
+            
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("topWords", counter.top(topN));
+            result.put("maxOvercount", counter.topErrors(topN));
+            if (query != null) {
+                Map<String, Long> estimates = new LinkedHashMap<>();
+                for (String word : query) {
+                    estimates.put(word, counter.estimate(word.toLowerCase(Locale.ROOT)));
+                }
+                result.put("pointQueries", estimates);
+            }
+            result.putAll(counter.describe());
+            
+            long time = (System.nanoTime() - start) / 1_000_000;
+            return new StreamResult("Space-Saving + Count-Min Sketch", result, time);
+        }
+        if ("topk".equalsIgnoreCase(algorithm) || "scan".equalsIgnoreCase(algorithm)) {
+            // Single pass: tokenize + lowercase + count, no intermediate copies
+            WordCountTable counts = new WordCountTable();
+            WordTokenizer.tokenize(text, counts);
+            boolean heap = "topk".equalsIgnoreCase(algorithm);
+            Map<String, Long> topWords = heap ? counts.top(topN) : counts.sortedByCount(topN);
+            
+            long time = (System.nanoTime() - start) / 1_000_000;
+            return new StreamResult(heap ? "Top-K Heap" : "Streaming Tokenizer", topWords, time);
+        }
+        if (!"stream".equalsIgnoreCase(algorithm)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown algorithm: " + algorithm);
+        }
+        
         // Multi-stage pipeline: tokenize -> count -> sort -> limit -> collect
         Map<String, Long> topWords = Arrays.stream(text.toLowerCase(Locale.ROOT).split("\\W+"))
             .filter(word -> !word.isBlank())                          // Stage 0: Filter empty tokens
@@ -265,7 +479,8 @@ public class PracticalExamplesController {
             .entrySet()                                              // Convert to stream of Map.Entry
             .stream()
             .sorted(Map.Entry.<String, Long>comparingByValue()       // Stage 2: Sort by frequency
-                    .reversed())
+                    .reversed()
+                    .thenComparing(Map.Entry.comparingByKey()))      // Ties: alphabetical
             .limit(topN)                                             // Stage 3: Take top N (lazy)
             .collect(Collectors.toMap(                               // Stage 4: Collect preserving order
                 Map.Entry::getKey,
@@ -279,6 +494,228 @@ public class PracticalExamplesController {
         return new StreamResult("Stream API", topWords, time);
     }
 
+    /**
+     * Counts word frequencies in a large local text file using memory-mapped, parallel chunks.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Batch analytics over multi-GB log and document files that cannot be sent as a request parameter:
+     * <ul>
+     *     <li>Log mining - most frequent tokens in application or access logs</li>
+     *     <li>Corpus statistics - vocabulary profiling of document dumps</li>
+     * </ul>
+     * </p>
+     * 
+     * <h3>Processing Pipeline</h3>
+     * <pre>
+     * file -> chunks cut on token boundaries
+     *      -> ForkJoinPool: each chunk mapped read-only and counted into its own WordCountTable
+     *      -> partial tables merged as tasks join
+     *      -> top N selected with a bounded heap
+     * </pre>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Memory Mapping:</strong> the OS pages the file in on demand; nothing is copied into a String</li>
+     *     <li><strong>Thread-Local Tables:</strong> workers never share a count table, so there is no locking</li>
+     *     <li><strong>Same Semantics:</strong> tokenization and top-N match the /word-frequency endpoint</li>
+     *     <li><strong>Sandboxed Paths:</strong> files are resolved inside the configured practical.files.base-dir</li>
+     * </ul>
+     * 
+     * @param path File path relative to the configured base directory
+     * @param topN Number of top words to return (default: 3)
+     * @return StreamResult containing the top N words and their counts, ordered by frequency
+     * 
+     * @see MappedWordCounter Chunked, parallel file counting
+     */
+    @PostMapping("/word-frequency/file")
+    @Operation(
+        summary = "Calculate top N word frequencies in a local file",
+        description = """
+            Counts words in a (possibly multi-GB) text file on the server:
+            1. Split: Cut the file into chunks on token boundaries
+            2. Count: Memory-map each chunk and count it in a ForkJoinPool task
+            3. Merge: Combine per-task count tables
+            4. Select: Take the top N with a bounded heap
+            
+            Paths are resolved relative to practical.files.base-dir.
+            Tokenization and top-N semantics match /word-frequency."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully analyzed word frequencies in the file",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "File Word Frequency Response",
+                value = """
+                    {
+                      "approach": "Memory-Mapped Parallel Count",
+                      "result": {
+                        "error": 182734,
+                        "request": 99120,
+                        "timeout": 4211
+                      },
+                      "executionTimeMs": 1840
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult wordFrequencyFile(
+        @Parameter(
+            description = "Path of the text file, relative to the configured base directory (practical.files.base-dir). UTF-8 or ASCII text.",
+            example = "logs/app.log",
+            required = true
+        )
+        @RequestParam String path,
+        
+        @Parameter(
+            description = "Maximum number of top frequent words to return. Results are sorted by frequency in descending order, ties by word in ascending order.",
+            example = "3"
+        )
+        @RequestParam(defaultValue = "3") int topN
+    ) {
+        long start = System.nanoTime();
+        
+        Path file = fileResolver.resolve(path);
+        
+        WordCountTable counts;
+        try {
+            counts = new MappedWordCounter().count(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, Long> topWords = counts.top(topN);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Memory-Mapped Parallel Count", topWords, time);
+    }
+
+    /**
+     * Ingests one text event into the sliding-window trending-words counts.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Live moderation and social dashboards: messages, comments or log lines are pushed as they
+     * arrive and counted once into the current time bucket (see {@link TrendingWordsService}).</p>
+     * 
+     * @param text Raw text of the event; tokenized like /word-frequency
+     * @return StreamResult containing the number of words counted from the event
+     */
+    @PostMapping("/trending/events")
+    @Operation(
+        summary = "Ingest a text event for trending words",
+        description = """
+            Tokenizes the request body like /word-frequency and adds the counts to the
+            current time bucket. Counts expire automatically when their bucket leaves
+            the retention window (practical.trending.retention-minutes)."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully ingested the event",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Ingest Response",
+                value = """
+                    {
+                      "approach": "Sliding Window Buckets",
+                      "result": {
+                        "wordsCounted": 9
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult ingestTrendingEvent(
+        @Parameter(
+            description = "Text of the event (plain text request body)",
+            example = "New release of java streams is out, streams are trending",
+            required = true
+        )
+        @RequestBody String text
+    ) {
+        long start = System.nanoTime();
+        
+        long wordsCounted = trendingWordsService.ingest(text);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Sliding Window Buckets", Map.of("wordsCounted", wordsCounted), time);
+    }
+
+    /**
+     * Returns the top N words over the last N minutes of ingested events.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Time Buckets:</strong> events are counted into fixed-duration buckets held in a ring</li>
+     *     <li><strong>Incremental Expiry:</strong> a running total over the retention window is updated on ingest
+     *         and decremented when a bucket expires - no text is ever recounted</li>
+     *     <li><strong>Shorter Windows:</strong> merge only the newest buckets they cover</li>
+     *     <li><strong>Top-N:</strong> same bounded heap selection as /word-frequency</li>
+     * </ul>
+     * 
+     * @param minutes Window length in minutes (capped at the retention window)
+     * @param topN Number of top words to return
+     * @return StreamResult containing the top N words in the window, ordered by frequency
+     */
+    @GetMapping("/trending")
+    @Operation(
+        summary = "Top N trending words over the last N minutes",
+        description = """
+            Returns the most frequent words ingested through /trending/events within the
+            requested window. Counts are maintained in time buckets that expire
+            incrementally, so queries never rescan event text."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully computed trending words",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Trending Words Response",
+                value = """
+                    {
+                      "approach": "Sliding Window Buckets",
+                      "result": {
+                        "streams": 42,
+                        "release": 17,
+                        "java": 12
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult trendingWords(
+        @Parameter(
+            description = "Window length in minutes. Values above the retention window are capped to it.",
+            example = "5"
+        )
+        @RequestParam(defaultValue = "5") int minutes,
+        
+        @Parameter(
+            description = "Maximum number of top words to return",
+            example = "10"
+        )
+        @RequestParam(defaultValue = "10") int topN
+    ) {
+        long start = System.nanoTime();
+        
+        if (minutes <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minutes must be positive");
+        }
+        Map<String, Long> topWords = trendingWordsService.top(minutes, topN);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Sliding Window Buckets", topWords, time);
+    }
+
     /**
      * Validates IDs against a specific format pattern and collects invalid entries.
      * 
@@ -307,12 +744,16 @@ public class PracticalExamplesController {
      *     <li><strong>Filter Inversion:</strong> Uses negated condition (!) to keep invalid entries</li>
      *     <li><strong>Null Handling:</strong> Explicitly checks for null values before calling methods</li>
      *     <li><strong>Regex Matching:</strong> matches() validates format pattern</li>
+     *     <li><strong>Optional Duplicate Check:</strong> Well-formed IDs are screened with a Bloom filter;
+     *         only suspected duplicates are confirmed exactly (see {@link DuplicateDetector})</li>
      * </ul>
      * 
      * @param ids List of ID strings to validate
+     * @param checkDuplicates Whether to also report duplicated well-formed IDs
      * @return StreamResult containing:
      *         <ul>
-     *           <li>List of invalid IDs (null, blank, or not matching pattern)</li>
+     *           <li>List of invalid IDs (null, blank, or not matching pattern), or when checkDuplicates
+     *               is set, a map with "invalid" and "duplicates" lists</li>
      *           <li>Execution time</li>
      *         </ul>
      * 
@@ -325,6 +766,9 @@ public class PracticalExamplesController {
             Validates IDs against required format: [A-Z]-\\d+ (e.g., A-100, B-5)
             Collects ALL invalid entries (null, blank, or non-matching format).
             
+            With checkDuplicates=true, well-formed IDs are also checked for uniqueness using a
+            Bloom filter screen with exact confirmation of suspected duplicates only.
+            
             Demonstrates error collection pattern - gathers all errors rather than failing on first."""
     )
     @ApiResponse(
@@ -332,16 +776,31 @@ public class PracticalExamplesController {
         description = "Successfully validated and collected invalid IDs",
         content = @Content(
             mediaType = "application/json",
-            examples = @ExampleObject(
-                name = "Invalid IDs Response",
-                value = """
-                    {
-                      "approach": "Stream API",
-                      "result": ["", "INVALID#", "a-100"],
-                      "executionTimeMs": 1
-                    }
-                    """
-            )
+            examples = {
+                @ExampleObject(
+                    name = "Invalid IDs Response",
+                    value = """
+                        {
+                          "approach": "Stream API",
+                          "result": ["", "INVALID#", "a-100"],
+                          "executionTimeMs": 1
+                        }
+                        """
+                ),
+                @ExampleObject(
+                    name = "Invalid and Duplicate IDs Response",
+                    value = """
+                        {
+                          "approach": "Stream API + Bloom Filter",
+                          "result": {
+                            "invalid": ["", "INVALID#", "a-100"],
+                            "duplicates": ["A-100"]
+                          },
+                          "executionTimeMs": 1
+                        }
+                        """
+                )
+            }
         )
     )
     public StreamResult validateIds(
@@ -350,20 +809,45 @@ public class PracticalExamplesController {
             example = "[\"A-100\", \"\", \"INVALID#\", \"B-5\", null, \"a-100\"]",
             required = true
         )
-        @RequestBody List<String> ids
+        @RequestBody List<String> ids,
+        
+        @Parameter(
+            description = "Also report well-formed IDs that occur more than once. Uses a memory-bounded Bloom filter with exact confirmation of suspected duplicates.",
+            example = "false"
+        )
+        @RequestParam(defaultValue = "false") boolean checkDuplicates
     ) {
         long start = System.nanoTime();
         
         // Collect all invalid IDs (error collection pattern)
         List<String> invalidIds = ids.stream()
-            .filter(id -> id == null                     // Null check
-                    || id.isBlank()                      // Blank/whitespace-only check
-                    || !id.matches("[A-Z]-\\d+"))        // Format validation: Single uppercase letter-digits
+            .filter(id -> !isValidId(id))
+            .collect(Collectors.toList());
+        
+        if (!checkDuplicates) {
+            long time = (System.nanoTime() - start) / 1_000_000;
+            return new StreamResult("Stream API", invalidIds, time);
+        }
+        
+        // Duplicate screening over well-formed IDs only (invalid ones are already reported)
+        List<String> validIds = ids.stream()
+            .filter(PracticalExamplesController::isValidId)
             .collect(Collectors.toList());
+        List<String> duplicates = DuplicateDetector.findDuplicates(validIds);
+        
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        result.put("invalid", invalidIds);
+        result.put("duplicates", duplicates);
         
         long time = (System.nanoTime() - start) / 1_000_000;
         
-        return new StreamResult("Stream API", invalidIds, time);
+        return new StreamResult("Stream API + Bloom Filter", result, time);
+    }
+
+    private static boolean isValidId(String id) {
+        return id != null                                // Null check
+                && !id.isBlank()                         // Blank/whitespace-only check
+                && VALID_ID.matcher(id).matches();       // Format validation: Single uppercase letter-digits
     }
 
     /**
@@ -475,6 +959,218 @@ public class PracticalExamplesController {
         return new StreamResult("Stream API", result, time);
     }
 
+    /**
+     * Classifies scores into N bands (e.g. grades F-A) with counts and, optionally, members per band.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Daily grading batches over millions of assessment scores, where pass/fail is not enough and
+     * boxing every score into per-band ArrayLists dominates the run time.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Primitive Input:</strong> scores are bound to an int[] and never boxed</li>
+     *     <li><strong>Binary Search Bands:</strong> a score's band is the number of thresholds &lt;= score</li>
+     *     <li><strong>Counting-Sort Layout:</strong> pass 1 counts per band, prefix sums assign each band a
+     *         contiguous range, pass 2 writes members into one int[] in input order</li>
+     *     <li><strong>Parallel Chunks:</strong> large inputs are split into chunks with their own counts and
+     *         write offsets, so both passes run in parallel without contention</li>
+     * </ul>
+     * 
+     * @param scores Scores to classify
+     * @param thresholds Strictly ascending band boundaries; a score equal to a threshold belongs to the band above
+     * @param labels Optional band labels, one more than thresholds (default: ranges such as "60-69")
+     * @param includeMembers Whether to return the scores of each band (counts are always returned)
+     * @return StreamResult containing counts (and members) per band, lowest band first
+     * 
+     * @see ScoreBands Two-pass band layout
+     */
+    @PostMapping("/partition-scores/bands")
+    @Operation(
+        summary = "Classify scores into N bands",
+        description = """
+            Generalizes /partition-scores from pass/fail to any number of thresholds:
+            1. Count: Per-chunk band counts (band found by binary search over thresholds)
+            2. Layout: Prefix sums give every band a contiguous range in one int[]
+            3. Scatter: Each chunk writes its scores to its own offsets, preserving input order
+            
+            Both passes run in parallel for large inputs. Set includeMembers=false for counts only."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully classified scores",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Score Bands Response",
+                value = """
+                    {
+                      "approach": "Counting-Sort Bands",
+                      "result": {
+                        "counts": {"F": 2, "D": 1, "C": 1, "B": 1, "A": 1},
+                        "members": {
+                          "F": [49, 58],
+                          "D": [67],
+                          "C": [73],
+                          "B": [82],
+                          "A": [95]
+                        }
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult partitionScoreBands(
+        @Parameter(
+            description = "Scores to classify (integers)",
+            example = "[95, 82, 67, 49, 73, 58]",
+            required = true
+        )
+        @RequestBody int[] scores,
+        
+        @Parameter(
+            description = "Strictly ascending thresholds; scores >= a threshold belong to the band above it",
+            example = "60,70,80,90"
+        )
+        @RequestParam(defaultValue = "60") int[] thresholds,
+        
+        @Parameter(
+            description = "Optional band labels, lowest band first; must have one more entry than thresholds",
+            example = "F,D,C,B,A"
+        )
+        @RequestParam(required = false) List<String> labels,
+        
+        @Parameter(
+            description = "Return the scores in each band, not just the counts",
+            example = "true"
+        )
+        @RequestParam(defaultValue = "true") boolean includeMembers
+    ) {
+        for (int i = 1; i < thresholds.length; i++) {
+            if (thresholds[i] <= thresholds[i - 1]) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Thresholds must be strictly ascending");
+            }
+        }
+        if (labels != null && labels.size() != thresholds.length + 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Expected " + (thresholds.length + 1) + " labels, got " + labels.size());
+        }
+        
+        long start = System.nanoTime();
+        
+        ScoreBands bands = ScoreBands.classify(scores, thresholds, includeMembers);
+        
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Map<String, int[]> members = new LinkedHashMap<>();
+        for (int band = 0; band < bands.bandCount(); band++) {
+            String label = labels != null ? labels.get(band) : bands.label(band);
+            counts.put(label, bands.count(band));
+            if (includeMembers) {
+                members.put(label, bands.members(band));
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("counts", counts);
+        if (includeMembers) {
+            result.put("members", members);
+        }
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Counting-Sort Bands", result, time);
+    }
+
+    /**
+     * Summarizes a score distribution: median, p90/p99 and a histogram, in one pass.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Exact Small-Range Histogram:</strong> integer scores (e.g. 0-100) are counted into a long[]
+     *         indexed by value, so quantiles and the histogram are exact without sorting</li>
+     *     <li><strong>Sketch Fallback:</strong> if the values span more than 65536 distinct integers, a mergeable
+     *         KLL quantile sketch takes over ("exact": false)</li>
+     *     <li><strong>Parallel Chunks:</strong> large inputs are summarized per chunk in parallel and merged</li>
+     * </ul>
+     * 
+     * @param scores Scores to summarize
+     * @param quantiles Ranks to report (0..1), nearest-rank definition
+     * @param bins Number of histogram bins when the sketch fallback is used
+     * @return StreamResult containing count, min, max, mean, quantiles and histogram (value -> count)
+     * 
+     * @see DistributionSummary Parallel one-pass summary
+     */
+    @PostMapping("/score-stats")
+    @Operation(
+        summary = "Score distribution (quantiles and histogram)",
+        description = """
+            One pass over integer scores:
+            - Exact count, min, max, mean
+            - Quantiles (default p50, p90, p99) and a value -> count histogram, exact for small ranges
+            - Falls back to a KLL quantile sketch with equal-width bins for very wide ranges
+            
+            Complements /partition-scores without sorting the scores."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully summarized scores",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Score Stats Response",
+                value = """
+                    {
+                      "approach": "Exact Histogram",
+                      "result": {
+                        "count": 6,
+                        "min": 49.0,
+                        "max": 95.0,
+                        "mean": 70.66666666666667,
+                        "exact": true,
+                        "quantiles": {"p50": 67.0, "p90": 95.0, "p99": 95.0},
+                        "histogram": {"49": 1, "58": 1, "67": 1, "73": 1, "82": 1, "95": 1}
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult scoreStats(
+        @Parameter(
+            description = "Scores to summarize (integers)",
+            example = "[95, 82, 67, 49, 73, 58]",
+            required = true
+        )
+        @RequestBody int[] scores,
+        
+        @Parameter(
+            description = "Quantile ranks to report, between 0 and 1",
+            example = "0.5,0.9,0.99"
+        )
+        @RequestParam(defaultValue = "0.5,0.9,0.99") List<Double> quantiles,
+        
+        @Parameter(
+            description = "Number of equal-width histogram bins if the range is too wide for exact counts (1 to 1000)",
+            example = "10"
+        )
+        @RequestParam(defaultValue = "10") int bins
+    ) {
+        long start = System.nanoTime();
+        
+        try {
+            DistributionSummary.checkOptions(quantiles, bins);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        DistributionSummary summary = DistributionSummary.ofInts(scores);
+        Map<String, Object> result = summary.toMap(quantiles, bins);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult(summary.isExact() ? "Exact Histogram" : "KLL Quantile Sketch", result, time);
+    }
+
     /**
      * Calculates running (cumulative) totals for a list of amounts.
      * 
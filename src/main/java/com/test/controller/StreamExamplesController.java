@@ -3,17 +3,29 @@ package com.test.controller;
 import com.test.dto.OrderInput;
 import com.test.dto.StreamResult;
 import com.test.model.Order;
+import com.test.service.LocalFileResolver;
+import com.test.util.CharHistogram;
+import com.test.util.CodePointAnalyzer;
+import com.test.util.CodePointCounts;
+import com.test.util.DistributionSummary;
+import com.test.util.TopSpenders;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -80,6 +92,12 @@ import java.util.stream.Collectors;
 )
 public class StreamExamplesController {
 
+    private final LocalFileResolver fileResolver;
+
+    public StreamExamplesController(LocalFileResolver fileResolver) {
+        this.fileResolver = fileResolver;
+    }
+
     /**
      * Filters orders by status COMPLETED and amount greater than threshold.
      * 
@@ -464,6 +482,209 @@ public class StreamExamplesController {
         return results;
     }
 
+    /**
+     * Summarizes the distribution of order amounts: median, p90/p99 and a histogram, without sorting.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Alongside total revenue, analysts need typical and tail order values (median basket, p99 for
+     * fraud thresholds) at scan speed over millions of orders.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Quantile Sketch:</strong> a KLL sketch keeps O(k) weighted samples whose ranks stay within
+     *         about 1% of the true ranks, instead of sorting every amount</li>
+     *     <li><strong>Mergeable:</strong> each parallel chunk builds its own sketch; sketches merge at the end</li>
+     *     <li><strong>Exact Moments:</strong> count, min, max and mean are computed exactly in the same pass</li>
+     *     <li><strong>Histogram:</strong> equal-width bins between min and max, counted from sketch ranks</li>
+     * </ul>
+     * 
+     * @param orderInputs Orders whose amounts are summarized
+     * @param status Optional status filter, e.g. COMPLETED (default: all orders)
+     * @param quantiles Ranks to report (0..1)
+     * @param bins Number of histogram bins
+     * @return StreamResult containing count, min, max, mean, quantiles and histogram
+     * 
+     * @see DistributionSummary Parallel one-pass summary
+     */
+    @PostMapping("/amount-stats")
+    @Operation(
+        summary = "Order amount distribution (quantiles and histogram)",
+        description = """
+            One pass over order amounts (optionally filtered by status):
+            - Exact count, min, max, mean
+            - Approximate quantiles (default p50, p90, p99) from mergeable KLL sketches built per chunk in parallel
+            - Equal-width histogram between min and max
+            
+            Complements /aggregate, which only returns the total."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully summarized order amounts",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Amount Stats Response",
+                value = """
+                    {
+                      "approach": "KLL Quantile Sketch",
+                      "result": {
+                        "count": 3,
+                        "min": 150.5,
+                        "max": 225.0,
+                        "mean": 191.83333333333334,
+                        "exact": false,
+                        "quantiles": {"p50": 200.0, "p90": 225.0, "p99": 225.0},
+                        "histogram": {"[150.5, 187.75)": 1, "[187.75, 225]": 2}
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult amountStats(
+        @Parameter(
+            description = "List of orders whose amounts are summarized",
+            required = true,
+            example = """
+                [
+                  {"id": "O1", "customerId": "C001", "amount": 150.50, "status": "COMPLETED", "items": []},
+                  {"id": "O2", "customerId": "C002", "amount": 75.00, "status": "PENDING", "items": []},
+                  {"id": "O3", "customerId": "C001", "amount": 225.00, "status": "COMPLETED", "items": []},
+                  {"id": "O4", "customerId": "C003", "amount": 200.00, "status": "COMPLETED", "items": []}
+                ]
+                """
+        )
+        @RequestBody List<OrderInput> orderInputs,
+
+        @Parameter(
+            description = "Only include orders with this status (omit for all orders)",
+            example = "COMPLETED"
+        )
+        @RequestParam(required = false) String status,
+
+        @Parameter(
+            description = "Quantile ranks to report, between 0 and 1",
+            example = "0.5,0.9,0.99"
+        )
+        @RequestParam(defaultValue = "0.5,0.9,0.99") List<Double> quantiles,
+
+        @Parameter(
+            description = "Number of equal-width histogram bins (1 to 1000)",
+            example = "2"
+        )
+        @RequestParam(defaultValue = "10") int bins
+    ) {
+        long start = System.nanoTime();
+        try {
+            DistributionSummary.checkOptions(quantiles, bins);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        double[] amounts = orderInputs.stream()
+            .filter(order -> status == null || status.equals(order.getStatus()))
+            .mapToDouble(OrderInput::getAmount)
+            .toArray();
+        Map<String, Object> summary = DistributionSummary.ofDoubles(amounts).toMap(quantiles, bins);
+        long time = (System.nanoTime() - start) / 1_000_000;
+        return new StreamResult("KLL Quantile Sketch", summary, time);
+    }
+
+    /**
+     * Returns the top N customers by total spend.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Loyalty and account-management dashboards asking for the top 100 customers many times a
+     * minute over millions of customers (see ComplexPipelineExample for the groupingBy + sort version).</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Primitive Totals:</strong> each customer ID is dictionary-encoded to a dense int code and
+     *         spend is summed into a double[] indexed by that code, with no boxed Double or Map.Entry per customer</li>
+     *     <li><strong>Bounded Heap:</strong> the top N is selected with a size-N heap, O(customers log N),
+     *         instead of sorting every customer just to limit(N)</li>
+     *     <li><strong>Partitions:</strong> customers are split into disjoint hash partitions; each partition's
+     *         chunk tables are merged and reduced to its top N in parallel, then the partition winners are merged</li>
+     * </ul>
+     * 
+     * @param orderInputs Orders to aggregate
+     * @param status Only orders with this status are counted (default: COMPLETED)
+     * @param topN Number of customers to return
+     * @return StreamResult containing customer -> total spend, highest first
+     * 
+     * @see TopSpenders Partitioned aggregation and top-N selection
+     */
+    @PostMapping("/top-customers")
+    @Operation(
+        summary = "Top N customers by total spend",
+        description = """
+            Sums order amounts per customer (orders with the given status only) and returns
+            the N customers with the highest totals:
+            1. Aggregate: Per-chunk, per-partition primitive customer -> total tables
+            2. Select: Each partition merges its tables and keeps its top N with a bounded heap
+            3. Merge: The global top N is taken from the partition winners
+            
+            Ties are broken by customer ID."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully computed top customers",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Top Customers Response",
+                value = """
+                    {
+                      "approach": "Spend Table + Bounded Heap",
+                      "result": {
+                        "C001": 375.5,
+                        "C003": 200.0
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult topCustomers(
+        @Parameter(
+            description = "List of orders to aggregate by customer",
+            required = true,
+            example = """
+                [
+                  {"id": "O1", "customerId": "C001", "amount": 150.50, "status": "COMPLETED", "items": []},
+                  {"id": "O2", "customerId": "C002", "amount": 75.00, "status": "PENDING", "items": []},
+                  {"id": "O3", "customerId": "C001", "amount": 225.00, "status": "COMPLETED", "items": []},
+                  {"id": "O4", "customerId": "C003", "amount": 200.00, "status": "COMPLETED", "items": []}
+                ]
+                """
+        )
+        @RequestBody List<OrderInput> orderInputs,
+
+        @Parameter(
+            description = "Only orders with this status count towards spend",
+            example = "COMPLETED"
+        )
+        @RequestParam(defaultValue = "COMPLETED") String status,
+
+        @Parameter(
+            description = "Number of customers to return",
+            example = "2"
+        )
+        @RequestParam(defaultValue = "2") int topN
+    ) {
+        long start = System.nanoTime();
+        Map<String, Double> top = TopSpenders.topN(
+            orderInputs,
+            order -> status.equals(order.getStatus()) && order.getCustomerId() != null,
+            OrderInput::getCustomerId,
+            OrderInput::getAmount,
+            topN
+        );
+        long time = (System.nanoTime() - start) / 1_000_000;
+        return new StreamResult("Spend Table + Bounded Heap", top, time);
+    }
+
     /**
      * Groups orders by their status and counts items in each group.
      * 
@@ -614,7 +835,13 @@ public class StreamExamplesController {
      *     <li><strong>toLowerCase():</strong> Normalizes case for case-insensitive counting</li>
      * </ul>
      * 
+     * <h3>Histogram Algorithm (default)</h3>
+     * <p>{@link CharHistogram} counts into int[] pages indexed by char (overflow map for supplementary
+     * code points) and computes both results in a single pass, without boxing each char, building
+     * groupingBy maps or copying the text with toLowerCase(). Results have the same shape and order.</p>
+     * 
      * @param text Input text string to analyze for character frequency
+     * @param algorithm histogram (single-pass array histogram) or stream (groupingBy pipelines)
      * @return List of StreamResult objects containing:
      *         <ul>
      *           <li>All characters (including spaces and symbols)</li>
@@ -632,7 +859,9 @@ public class StreamExamplesController {
             1. All characters: spaces, symbols, letters
             2. Letters only: filtered to A-Z (case-insensitive)
             
-            Uses LinkedHashMap to preserve character appearance order."""
+            Uses LinkedHashMap to preserve character appearance order.
+            algorithm=histogram (default) computes both in one pass over array-indexed
+            counters; algorithm=stream runs the two groupingBy pipelines."""
     )
     @ApiResponse(
         responseCode = "200",
@@ -644,7 +873,7 @@ public class StreamExamplesController {
                 value = """
                     [
                       {
-                        "approach": "Stream API",
+                        "approach": "Histogram Array",
                         "result": {
                           "H": 1,
                           "a": 3,
@@ -661,7 +890,7 @@ public class StreamExamplesController {
                         "executionTimeMs": 0
                       },
                       {
-                        "approach": "Stream API (letters only)",
+                        "approach": "Histogram Array (letters only)",
                         "result": {
                           "a": 3,
                           "r": 2,
@@ -685,10 +914,31 @@ public class StreamExamplesController {
             example = "Haritha Reddy",
             required = true
         )
-        @RequestParam String text
+        @RequestParam String text,
+
+        @Parameter(
+            description = "Counting algorithm: histogram (single pass over array-indexed counters) or stream (two groupingBy pipelines)",
+            example = "histogram"
+        )
+        @RequestParam(defaultValue = "histogram") String algorithm
     ) {
         List<StreamResult> results = new ArrayList<>();
 
+        if ("histogram".equalsIgnoreCase(algorithm)) {
+            // ===== ONE PASS: ALL CHARACTERS + LETTERS ONLY =====
+            long start = System.nanoTime();
+            CharHistogram histogram = new CharHistogram().add(text);
+            var charCount = histogram.allCounts();
+            var letterCount = histogram.letterCounts();
+            long histogramTime = (System.nanoTime() - start) / 1_000_000;
+            results.add(new StreamResult("Histogram Array", charCount, histogramTime));
+            results.add(new StreamResult("Histogram Array (letters only)", letterCount, histogramTime));
+            return results;
+        }
+        if (!"stream".equalsIgnoreCase(algorithm)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown algorithm: " + algorithm);
+        }
+
         // ===== APPROACH 1: ALL CHARACTERS =====
         long start = System.nanoTime();
         var charCount = text.chars()                                   // Get IntStream of character codes
@@ -718,6 +968,147 @@ public class StreamExamplesController {
         return results;
     }
 
+    /**
+     * Counts code points, Unicode general categories and scripts of a large text, in parallel.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Multilingual content pipelines: checking which scripts a corpus contains, spotting control or
+     * private-use characters, or measuring emoji usage. {@code text.chars()} sees the two halves of a
+     * surrogate pair as separate chars, so emoji and CJK extension characters are miscounted.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Code points:</strong> a surrogate pair counts once, as its supplementary code point</li>
+     *     <li><strong>Aligned chunks:</strong> the text is split so no chunk boundary falls inside a pair</li>
+     *     <li><strong>Per-task histograms:</strong> each fork/join task counts into its own paged long[] table;
+     *         tables are merged as tasks join (see {@link CodePointAnalyzer})</li>
+     *     <li><strong>Derived breakdowns:</strong> category and script are looked up once per distinct code
+     *         point, not per character</li>
+     * </ul>
+     * 
+     * @param text Text to analyze, sent as the raw request body
+     * @param topN Number of most frequent code points to list (default: 20)
+     * @return StreamResult with totals, top code points, and counts by category and script
+     * 
+     * @see CodePointAnalyzer Chunked, parallel code point counting
+     */
+    @PostMapping("/character-frequency/unicode")
+    @Operation(
+        summary = "Code-point frequency with Unicode category and script breakdown",
+        description = """
+            Counts code points (not UTF-16 chars) of a large plain-text request body:
+            1. Split: Cut the text into chunks that never separate a surrogate pair
+            2. Count: Count each chunk into its own histogram in a ForkJoinPool task
+            3. Merge: Combine per-task histograms
+            4. Summarize: Top code points plus counts by general category (Lu, Nd, So...) and script"""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully analyzed code points",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Unicode Frequency Response",
+                value = """
+                    {
+                      "approach": "Parallel Code Point Histogram",
+                      "result": {
+                        "totalCodePoints": 11,
+                        "distinctCodePoints": 8,
+                        "topCodePoints": [
+                          {"codePoint": "U+0020", "character": " ", "count": 2, "category": "Zs", "script": "COMMON"},
+                          {"codePoint": "U+006C", "character": "l", "count": 2, "category": "Ll", "script": "LATIN"},
+                          {"codePoint": "U+1F600", "character": "😀", "count": 2, "category": "So", "script": "COMMON"}
+                        ],
+                        "byCategory": {"Ll": 4, "Lo": 2, "Lu": 1, "So": 2, "Zs": 2},
+                        "byScript": {"COMMON": 4, "HAN": 2, "LATIN": 5}
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult unicodeFrequency(
+        @Parameter(
+            description = "Text to analyze (plain text request body, any size, any script)",
+            example = "Hello 世界 😀😀",
+            required = true
+        )
+        @RequestBody String text,
+
+        @Parameter(
+            description = "Number of most frequent code points to list",
+            example = "20"
+        )
+        @RequestParam(defaultValue = "20") int topN
+    ) {
+        requirePositiveTopN(topN);
+        long start = System.nanoTime();
+        Map<String, Object> summary = new CodePointAnalyzer().analyze(text).summary(topN);
+        long time = (System.nanoTime() - start) / 1_000_000;
+        return new StreamResult("Parallel Code Point Histogram", summary, time);
+    }
+
+    /**
+     * Same analysis as {@link #unicodeFrequency(String, int)} for a UTF-8 file on the server.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Memory-mapped chunks:</strong> each task maps its byte range read-only and decodes UTF-8
+     *         in place, so the file is never copied into a String</li>
+     *     <li><strong>Aligned cuts:</strong> chunk boundaries skip UTF-8 continuation bytes, so no character
+     *         is split between tasks</li>
+     *     <li><strong>Malformed input:</strong> invalid byte sequences are counted as U+FFFD</li>
+     * </ul>
+     * 
+     * @param path File path relative to practical.files.base-dir
+     * @param topN Number of most frequent code points to list (default: 20)
+     * @return StreamResult with totals, top code points, and counts by category and script
+     */
+    @PostMapping("/character-frequency/unicode/file")
+    @Operation(
+        summary = "Code-point frequency of a local UTF-8 file",
+        description = """
+            Runs the /character-frequency/unicode analysis over a (possibly multi-GB) UTF-8 file,
+            memory-mapping chunks aligned to character boundaries and counting them in parallel.
+            Paths are resolved relative to practical.files.base-dir."""
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully analyzed code points in the file")
+    public StreamResult unicodeFrequencyFile(
+        @Parameter(
+            description = "Path of the UTF-8 text file, relative to the configured base directory (practical.files.base-dir)",
+            example = "corpus/articles.txt",
+            required = true
+        )
+        @RequestParam String path,
+
+        @Parameter(
+            description = "Number of most frequent code points to list",
+            example = "20"
+        )
+        @RequestParam(defaultValue = "20") int topN
+    ) {
+        requirePositiveTopN(topN);
+        long start = System.nanoTime();
+        Path file = fileResolver.resolve(path);
+        CodePointCounts counts;
+        try {
+            counts = new CodePointAnalyzer().analyze(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, Object> summary = counts.summary(topN);
+        long time = (System.nanoTime() - start) / 1_000_000;
+        return new StreamResult("Memory-Mapped Parallel Code Point Histogram", summary, time);
+    }
+
+    private static void requirePositiveTopN(int topN) {
+        if (topN < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "topN must be positive: " + topN);
+        }
+    }
+
     /**
      * Converts OrderInput DTO objects to Order domain model objects.
      * 
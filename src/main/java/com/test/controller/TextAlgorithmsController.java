@@ -0,0 +1,480 @@
+package com.test.controller;
+
+import com.test.dto.StreamResult;
+import com.test.util.AnagramGrouper;
+import com.test.util.AnagramMatcher;
+import com.test.util.Manacher;
+import com.test.util.Reversal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST API Controller for string algorithms from ReverseAndAnagramExample, at production scale.
+ * 
+ * <h2>Overview</h2>
+ * The example class demonstrates anagram and reversal ideas with substring-and-sort loops that are
+ * fine for ten characters and far too slow for long inputs. These endpoints implement the same
+ * questions with linear-time algorithms:
+ * <ul>
+ *     <li><strong>Anagram Search:</strong> rolling count window with a match counter</li>
+ *     <li><strong>Anagram Grouping:</strong> sort-free order-independent signatures, grouped in parallel</li>
+ *     <li><strong>Palindromes:</strong> Manacher's algorithm instead of reverse-and-compare</li>
+ *     <li><strong>Reversal:</strong> arithmetic digit reversal with overflow detection, code-point string reversal</li>
+ * </ul>
+ * 
+ * @author Practical Stream Examples
+ * @version 1.0
+ * @see com.test.examples.ReverseAndAnagramExample The original examples
+ * @see StreamResult Result wrapper for all endpoints
+ */
+@RestController
+@RequestMapping("/api/text")
+@Tag(
+    name = "Text Algorithms",
+    description = """
+        Linear-time string algorithms for long inputs
+        
+        - Anagram search: all windows of a text that are permutations of a pattern
+        - Anagram grouping: bulk word lists partitioned into anagram classes
+        - Palindromes: longest palindromic substring and palindrome count
+        - Reversal: bulk digit reversal of ints/longs and code-point aware string reversal
+        
+        Counterparts of the substring-and-sort loops in ReverseAndAnagramExample."""
+)
+public class TextAlgorithmsController {
+
+    /**
+     * Finds every occurrence of an anagram of {@code pattern} in a text.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Motif search in DNA-like sequences and log-signature strings, where the order of symbols inside
+     * a window does not matter but the multiset of symbols does.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Rolling Window:</strong> each step adds one char and drops one, updating a fixed-size count array</li>
+     *     <li><strong>Match Counter:</strong> the number of mismatching counts is maintained incrementally, so
+     *         checking a window is O(1) instead of sorting it (O(k log k) plus a substring per window)</li>
+     *     <li><strong>Single Pass:</strong> positions and unique anagrams come from the same scan</li>
+     * </ul>
+     * 
+     * @param text Text to search, sent as the raw request body
+     * @param pattern Pattern whose permutations are searched for
+     * @param limit Maximum positions and unique anagrams returned; the count always covers all matches
+     * @return StreamResult containing the match count, positions and unique anagrams
+     * 
+     * @see AnagramMatcher Sliding-window matcher
+     */
+    @PostMapping("/anagrams/search")
+    @Operation(
+        summary = "Find all anagram occurrences of a pattern",
+        description = """
+            Slides a window of the pattern's length over the text (plain-text body):
+            1. Count: Keep window-minus-pattern counts in a fixed-size array
+            2. Track: Maintain the number of non-zero counts as the window moves
+            3. Match: Report the window whenever that number is zero
+            
+            O(n) time, O(alphabet) memory. Overlapping matches are all reported."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully searched for anagrams",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Anagram Search Response",
+                value = """
+                    {
+                      "approach": "Sliding Window Count",
+                      "result": {
+                        "count": 4,
+                        "positions": [0, 2, 3, 7],
+                        "uniqueAnagrams": ["abc", "cba", "bac"],
+                        "truncated": false
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult searchAnagrams(
+        @Parameter(
+            description = "Text to search (plain text request body)",
+            example = "abcbacdcba",
+            required = true
+        )
+        @RequestBody String text,
+        
+        @Parameter(
+            description = "Pattern whose permutations are searched for",
+            example = "abc",
+            required = true
+        )
+        @RequestParam String pattern,
+        
+        @Parameter(
+            description = "Maximum number of positions and unique anagrams to return (the count is always exact)",
+            example = "1000"
+        )
+        @RequestParam(defaultValue = "1000") int limit
+    ) {
+        long start = System.nanoTime();
+        
+        List<Integer> positions = new ArrayList<>();
+        Set<String> uniqueAnagrams = new LinkedHashSet<>();
+        int count = AnagramMatcher.find(text, pattern, position -> {
+            if (positions.size() < limit) {
+                positions.add(position);
+            }
+            if (uniqueAnagrams.size() < limit) {
+                uniqueAnagrams.add(text.substring(position, position + pattern.length()));
+            }
+        });
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count);
+        result.put("positions", positions);
+        result.put("uniqueAnagrams", uniqueAnagrams);
+        result.put("truncated", count > positions.size());
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Sliding Window Count", result, time);
+    }
+
+    /**
+     * Groups a (large) word list into anagram classes.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Word games, spelling and search tooling, and deduplication of scrambled identifiers over
+     * dictionaries of millions of words.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Sort-free Signature:</strong> the sum of a scrambled 64-bit value per char is the same for
+     *         every permutation, so no char[] copy and sort is needed per word (unlike sortString)</li>
+     *     <li><strong>Collision Verification:</strong> a word joins a class only after an exact char-count check
+     *         against the class representative</li>
+     *     <li><strong>Parallel Grouping:</strong> large lists are grouped by a parallel stream into a
+     *         ConcurrentHashMap, with compute() making verify-and-add atomic per signature</li>
+     * </ul>
+     * 
+     * @param words Words to group
+     * @param ignoreCase Whether "Listen" and "silent" belong to the same class
+     * @param minSize Smallest class returned (distinct members); 2 omits words without anagrams
+     * @param limit Maximum number of classes returned, largest first
+     * @return StreamResult containing the word count, class count and the classes
+     * 
+     * @see AnagramGrouper Signature-based grouping
+     */
+    @PostMapping("/anagrams/groups")
+    @Operation(
+        summary = "Group words into anagram classes",
+        description = """
+            Partitions a word list into classes of words that are permutations of each other:
+            1. Sign: Order-independent 64-bit signature per word, without sorting its chars
+            2. Group: Parallel insert into a ConcurrentHashMap keyed by signature
+            3. Verify: Exact char-count check against the class representative (handles collisions)
+            4. Emit: Distinct, sorted members per class, largest classes first"""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully grouped words",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Anagram Groups Response",
+                value = """
+                    {
+                      "approach": "Signature Hash Grouping",
+                      "result": {
+                        "words": 9,
+                        "classes": 3,
+                        "groups": [
+                          ["Listen", "enlist", "silent"],
+                          ["act", "cat", "tac"],
+                          ["gogole", "google"]
+                        ]
+                      },
+                      "executionTimeMs": 1
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult groupAnagrams(
+        @Parameter(
+            description = "Words to group",
+            required = true,
+            example = """
+                ["Listen", "silent", "enlist", "google", "gogole", "cat", "act", "tac", "dog"]
+                """
+        )
+        @RequestBody List<String> words,
+        
+        @Parameter(
+            description = "Compare letters case-insensitively",
+            example = "true"
+        )
+        @RequestParam(defaultValue = "true") boolean ignoreCase,
+        
+        @Parameter(
+            description = "Minimum number of distinct words in a returned class (1 returns every word)",
+            example = "2"
+        )
+        @RequestParam(defaultValue = "2") int minSize,
+        
+        @Parameter(
+            description = "Maximum number of classes to return, largest first",
+            example = "1000"
+        )
+        @RequestParam(defaultValue = "1000") int limit
+    ) {
+        long start = System.nanoTime();
+        
+        List<List<String>> groups = AnagramGrouper.group(words, ignoreCase, minSize);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("words", words.size());
+        result.put("classes", groups.size());
+        result.put("groups", groups.subList(0, Math.min(Math.max(limit, 0), groups.size())));
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Signature Hash Grouping", result, time);
+    }
+
+    /**
+     * Finds the longest palindromic substring of a text and counts all palindromic substrings.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Sequence analysis (palindromic motifs in DNA-like strings) and text analytics over inputs of
+     * tens of MB, where checking each substring by reversing it would be cubic.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Manacher's Algorithm:</strong> palindrome radii around every centre in O(n) total, reusing
+     *         the mirrored radius inside the right-most palindrome found so far</li>
+     *     <li><strong>Counting:</strong> a radius of k means k palindromes share that centre, so the count is the
+     *         sum of the radii</li>
+     *     <li><strong>Memory:</strong> two int[n] radius arrays; the text is never copied or reversed</li>
+     * </ul>
+     * 
+     * @param text Text to analyze, sent as the raw request body
+     * @return StreamResult containing the longest palindrome, its position and the palindrome count
+     * 
+     * @see Manacher Linear-time palindrome radii
+     */
+    @PostMapping("/palindromes")
+    @Operation(
+        summary = "Longest palindromic substring and palindrome count",
+        description = """
+            Runs Manacher's algorithm over a plain-text body:
+            1. Radii: Longest palindrome around every centre (odd and even lengths) in O(n)
+            2. Longest: The largest radius gives the longest palindromic substring (left-most on ties)
+            3. Count: The sum of radii is the number of palindromic substrings, counted by position"""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully analyzed palindromes",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Palindromes Response",
+                value = """
+                    {
+                      "approach": "Manacher",
+                      "result": {
+                        "length": 13,
+                        "longest": "racecar",
+                        "longestStart": 3,
+                        "longestLength": 7,
+                        "palindromicSubstrings": 16
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult analyzePalindromes(
+        @Parameter(
+            description = "Text to analyze (plain text request body)",
+            example = "abcracecarxyz",
+            required = true
+        )
+        @RequestBody String text
+    ) {
+        long start = System.nanoTime();
+        
+        Manacher palindromes = Manacher.analyze(text);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("length", text.length());
+        result.put("longest", text.substring(palindromes.getLongestStart(),
+            palindromes.getLongestStart() + palindromes.getLongestLength()));
+        result.put("longestStart", palindromes.getLongestStart());
+        result.put("longestLength", palindromes.getLongestLength());
+        result.put("palindromicSubstrings", palindromes.getCount());
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Manacher", result, time);
+    }
+
+    /**
+     * Reverses the decimal digits of a batch of numbers.
+     * 
+     * <h3>Use Case</h3>
+     * <p>Checksum generation over large ID batches, where reversed digits feed a check-digit scheme.</p>
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Arithmetic Reversal:</strong> {@code r = r * 10 + v % 10}; no String per value and no
+     *         quadratic {@code +=} concatenation</li>
+     *     <li><strong>Overflow Detection:</strong> the bound is checked before each step, so 1000000009 reversed
+     *         as an int is reported instead of silently wrapping or failing in parseInt</li>
+     *     <li><strong>Bulk:</strong> results are written into one long[] (in place), in parallel for large batches</li>
+     * </ul>
+     * 
+     * @param values Numbers to reverse
+     * @param type int (results must fit in 32 bits) or long
+     * @return StreamResult containing the reversed values (0 where they overflow) and the overflowing indices
+     * 
+     * @see Reversal Digit and string reversal
+     */
+    @PostMapping("/reverse/numbers")
+    @Operation(
+        summary = "Reverse the digits of many numbers",
+        description = """
+            Reverses each number's decimal digits arithmetically, keeping the sign (-120 -> -21).
+            type=int checks results against the 32-bit range, type=long (default) against 64 bits.
+            Overflowing results are returned as 0 and listed in overflowIndices."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully reversed the numbers",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Reverse Numbers Response",
+                value = """
+                    {
+                      "approach": "Arithmetic Digit Reversal",
+                      "result": {
+                        "reversed": [543543, -21, 0],
+                        "overflowIndices": [2]
+                      },
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult reverseNumbers(
+        @Parameter(
+            description = "Numbers to reverse",
+            required = true,
+            example = "[345345, -120, 1000000009]"
+        )
+        @RequestBody long[] values,
+        
+        @Parameter(
+            description = "Result type whose range is checked for overflow: int or long",
+            example = "int"
+        )
+        @RequestParam(defaultValue = "long") String type
+    ) {
+        long start = System.nanoTime();
+        
+        int[] overflowIndices;
+        if ("int".equalsIgnoreCase(type)) {
+            overflowIndices = Reversal.reverseDigits(values, values, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } else if ("long".equalsIgnoreCase(type)) {
+            overflowIndices = Reversal.reverseDigits(values, values, Long.MIN_VALUE, Long.MAX_VALUE);
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown type: " + type);
+        }
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("reversed", values);
+        result.put("overflowIndices", overflowIndices);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Arithmetic Digit Reversal", result, time);
+    }
+
+    /**
+     * Reverses a batch of strings by code point.
+     * 
+     * <h3>Key Concepts</h3>
+     * <ul>
+     *     <li><strong>Code Points:</strong> surrogate pairs are kept in order, so emoji survive reversal
+     *         (StringBuilder.reverse() does this too; char-by-char loops do not)</li>
+     *     <li><strong>Reusable Buffer:</strong> each thread reverses into its own growing char[]; the result
+     *         String is the only allocation per value</li>
+     *     <li><strong>Bulk:</strong> large batches are processed with a parallel stream, preserving order</li>
+     * </ul>
+     * 
+     * @param texts Strings to reverse
+     * @return StreamResult containing the reversed strings in input order
+     */
+    @PostMapping("/reverse/strings")
+    @Operation(
+        summary = "Reverse many strings by code point",
+        description = """
+            Reverses each string code point by code point into a per-thread buffer,
+            keeping surrogate pairs (emoji, supplementary CJK) intact."""
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Successfully reversed the strings",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Reverse Strings Response",
+                value = """
+                    {
+                      "approach": "Code Point Reversal",
+                      "result": ["dlroW olleH", "c😀ba"],
+                      "executionTimeMs": 0
+                    }
+                    """
+            )
+        )
+    )
+    public StreamResult reverseStrings(
+        @Parameter(
+            description = "Strings to reverse",
+            required = true,
+            example = """
+                ["Hello World", "ab😀c"]
+                """
+        )
+        @RequestBody List<String> texts
+    ) {
+        long start = System.nanoTime();
+        
+        List<String> reversed = Reversal.reverseCodePoints(texts);
+        
+        long time = (System.nanoTime() - start) / 1_000_000;
+        
+        return new StreamResult("Code Point Reversal", reversed, time);
+    }
+}
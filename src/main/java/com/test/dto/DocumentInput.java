@@ -0,0 +1,37 @@
+package com.test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Document input data")
+public class DocumentInput {
+
+    @Schema(description = "Document ID", example = "D1")
+    private String id;
+
+    @Schema(description = "Document text", example = "Java streams make data processing concise")
+    private String text;
+
+    public DocumentInput() {
+    }
+
+    public DocumentInput(String id, String text) {
+        this.id = id;
+        this.text = text;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+}
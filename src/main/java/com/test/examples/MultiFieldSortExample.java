@@ -1,8 +1,13 @@
 package com.test.examples;
 
+import com.test.util.RecordComparators;
+import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 public final class MultiFieldSortExample {
@@ -46,6 +51,63 @@ public final class MultiFieldSortExample {
 
         System.out.println("People: " + people);
         System.out.println("Sorted: " + sorted);
+
+        // Same order from a declarative field list:
+        // RecordComparators.of() - builds comparingInt(age) instead of boxing age on every compare
+        // Expected Output:
+        //   Sorted (declarative): [Alex(29), Alex(35), Mina(31), Zoe(25)]
+        Comparator<Person> byNameThenAge = RecordComparators.of(Person.class, List.of("name", "age"));
+        System.out.println("Sorted (declarative): " + people.stream().sorted(byNameThenAge).collect(Collectors.toList()));
+
+        // Locale-aware names: collation keys are computed once per person, not on every comparison
+        // Expected Output:
+        //   Sorted (natural):  [Alice(22), Carl(25), bob(40)]
+        //   Sorted (collated): [Alice(22), bob(40), Carl(25)]
+        List<Person> mixedCase = Arrays.asList(new Person("Carl", 25), new Person("Alice", 22), new Person("bob", 40));
+        System.out.println("Sorted (natural):  " + mixedCase.stream().sorted(byNameThenAge).collect(Collectors.toList()));
+        System.out.println("Sorted (collated): "
+            + RecordComparators.sortCollated(mixedCase, Person.class, List.of("name", "age"), Collator.getInstance(Locale.ENGLISH)));
+
+        compareComparators();
+    }
+
+    // Lambda chain vs generated comparators on a larger list
+    private static void compareComparators() {
+        System.out.println("\n--- Comparator Performance (50,000 people) ---");
+        Random random = new Random(42);
+        String[] names = {"Mina", "Alex", "Zoe", "émile", "Emma", "Ångström", "Noah", "zoë"};
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            people.add(new Person(names[random.nextInt(names.length)] + random.nextInt(1000), random.nextInt(100)));
+        }
+        Comparator<Person> lambdaChain = Comparator.comparing(Person::name).thenComparing(Person::age);
+        Comparator<Person> generated = RecordComparators.of(Person.class, List.of("name", "age"));
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        Comparator<Person> collatorChain = Comparator.comparing(Person::name, collator).thenComparing(Person::age);
+
+        // Warm up JVM
+        for (int i = 0; i < 3; i++) {
+            new ArrayList<>(people).sort(lambdaChain);
+            new ArrayList<>(people).sort(generated);
+            new ArrayList<>(people).sort(collatorChain);
+            RecordComparators.sortCollated(people, Person.class, List.of("name", "age"), collator);
+        }
+
+        long start = System.nanoTime();
+        new ArrayList<>(people).sort(lambdaChain);
+        System.out.println("Lambda chain:          " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        new ArrayList<>(people).sort(generated);
+        System.out.println("Generated comparator:  " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        new ArrayList<>(people).sort(collatorChain);
+        System.out.println("Collator per compare:  " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        RecordComparators.sortCollated(people, Person.class, List.of("name", "age"), collator);
+        System.out.println("Cached collation keys: " + (System.nanoTime() - start) / 1_000_000 + " ms");
     }
 
     private record Person(String name, int age) {
@@ -1,9 +1,11 @@
 package com.test.examples;
 
+import com.test.util.NameNormalizer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 public final class NormalizeDeduplicateSortExample {
@@ -37,9 +39,27 @@ public final class NormalizeDeduplicateSortExample {
         Set<String> normalizedNames = rawNames.stream()
             .map(name -> name.trim().toLowerCase(Locale.ROOT))    // normalize: trim + lowercase
             .filter(name -> !name.isBlank())                      // remove empty strings
-            .collect(Collectors.toCollection(java.util.TreeSet::new));  // collect to sorted set
+            .collect(Collectors.toCollection(TreeSet::new));  // collect to sorted set
 
         System.out.println("Input: " + rawNames);
         System.out.println("Normalized: " + normalizedNames);
+
+        // Input: messyNames = ["José  Núñez", "jose nunez", "ＪＯＳＥ　ＮＵＮＥＺ", " Zoë "]
+        // Output: Prints names normalized with every NameNormalizer rule enabled
+        // Expected Output:
+        //   Input: [José  Núñez, jose nunez, ＪＯＳＥ　ＮＵＮＥＺ,  Zoë ]
+        //   Normalized (full rules): [jose nunez, zoe]
+        System.out.println("\n--- Practical Use: Unicode-aware Normalization ---");
+        List<String> messyNames = Arrays.asList("José  Núñez", "jose nunez", "ＪＯＳＥ　ＮＵＮＥＺ", " Zoë ");
+
+        // NameNormalizer.FULL - NFKC (full-width -> ASCII), diacritic folding, whitespace collapsing, case folding
+        //   already-clean names (like "jose nunez") are returned as-is without allocating
+        Set<String> fullyNormalized = messyNames.stream()
+            .map(NameNormalizer.FULL)                             // normalize with all rules
+            .filter(name -> !name.isBlank())                      // remove empty strings
+            .collect(Collectors.toCollection(TreeSet::new));  // collect to sorted set
+
+        System.out.println("Input: " + messyNames);
+        System.out.println("Normalized (full rules): " + fullyNormalized);
     }
 }
@@ -1,9 +1,13 @@
 package com.test.examples;
 
 import com.test.model.Order;
+import com.test.util.NormalizedKeySorter;
+import com.test.util.OrderSortSpec;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 public final class SortingExample {
 
@@ -20,6 +24,11 @@ public final class SortingExample {
         
         // Run the sorting examples
         run(orders);
+
+        // Timing on 1M generated orders only on request: it takes several seconds
+        if (args.length > 0 && "--benchmark".equals(args[0])) {
+            benchmark();
+        }
     }
 
     private static List<Order> createSampleOrders() {
@@ -85,4 +94,74 @@ public final class SortingExample {
             })
             .forEach(order -> System.out.println(order.getId() + " (" + order.getStatus() + "): $" + order.getAmount() + " - " + order.getCustomerId()));
     }
+
+    // Sort engine timings on 1M generated orders; run with --benchmark or "ExamplesRunner sortbench"
+    public static void benchmark() {
+        int size = 1_000_000;
+        Random random = new Random(42);
+        String[] statuses = {"COMPLETED", "PENDING", "CANCELLED", "SHIPPED"};
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order("O" + i, "C" + random.nextInt(100_000), random.nextInt(100_000) / 100.0,
+                statuses[random.nextInt(statuses.length)], List.of("Item" + random.nextInt(10))));
+        }
+        Comparator<Order> chain = Comparator.comparing(Order::getStatus)
+            .thenComparing(Order::getCustomerId)
+            .thenComparing(Comparator.comparingDouble(Order::getAmount).reversed());
+        NormalizedKeySorter<Order> sorter = OrderSortSpec.parse(List.of("status", "customerId", "amount:desc"));
+
+        List<Order> sorted = compareFullSort(orders, chain, sorter);
+        compareTopN(orders, chain, sorter, sorted);
+    }
+
+    // Comparator chain vs normalized keys (/api/orders/sort)
+    private static List<Order> compareFullSort(List<Order> orders, Comparator<Order> chain,
+                                               NormalizedKeySorter<Order> sorter) {
+        System.out.println("\n--- Sort Performance (" + orders.size() + " orders, by status, customerId, amount:desc) ---");
+
+        // Warm up JVM
+        for (int i = 0; i < 3; i++) {
+            new ArrayList<>(orders).sort(chain);
+            Arrays.parallelSort(orders.toArray(new Order[0]), chain);
+            sorter.sort(orders);
+        }
+
+        long start = System.nanoTime();
+        List<Order> sequential = new ArrayList<>(orders);
+        sequential.sort(chain);
+        System.out.println("Comparator chain (List.sort):     " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        Order[] parallel = orders.toArray(new Order[0]);
+        Arrays.parallelSort(parallel, chain);
+        System.out.println("Comparator chain (parallelSort):  " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        List<Order> normalized = sorter.sort(orders);
+        System.out.println("Normalized keys (parallelSort):   " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println("Same order: " + (normalized.equals(sequential) && normalized.equals(Arrays.asList(parallel))));
+        return normalized;
+    }
+
+    // First page only (/api/orders/sort/top): bounded heap vs sorting everything and truncating
+    private static void compareTopN(List<Order> orders, Comparator<Order> chain, NormalizedKeySorter<Order> sorter,
+                                    List<Order> sorted) {
+        int limit = 50;
+        System.out.println("\n--- Top-N Performance (first " + limit + " of " + orders.size() + " orders) ---");
+
+        // Warm up JVM
+        for (int i = 0; i < 3; i++) {
+            orders.stream().sorted(chain).limit(limit).toList();
+            sorter.top(orders, limit);
+        }
+
+        long start = System.nanoTime();
+        List<Order> limited = orders.stream().sorted(chain).limit(limit).toList();
+        System.out.println("sorted().limit(" + limit + "):               " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        start = System.nanoTime();
+        List<Order> top = sorter.top(orders, limit);
+        System.out.println("Normalized keys top(" + limit + "):          " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println("Same first page: " + (top.equals(limited) && top.equals(sorted.subList(0, limit))));
+    }
 }
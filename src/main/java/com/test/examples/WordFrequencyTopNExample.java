@@ -1,5 +1,7 @@
 package com.test.examples;
 
+import com.test.util.WordCountTable;
+import com.test.util.WordTokenizer;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Locale;
@@ -53,5 +55,16 @@ public final class WordFrequencyTopNExample {
 
         System.out.println("Text: " + text);
         System.out.println("Top words: " + topWords);
+
+        // Same counts without the lowercase copy, regex split or per-token Strings:
+        // WordTokenizer - scans characters once, lowercasing on the fly
+        // WordCountTable - primitive word -> long table, allocates a String only for new words
+        // Expected Output:
+        //   Top words (tokenizer): {streams=2, and=1, concise=1}
+        WordCountTable counts = new WordCountTable();
+        WordTokenizer.tokenize(text, counts);
+
+        // top() - size-3 min-heap over the table instead of sorting every word
+        System.out.println("Top words (tokenizer): " + counts.top(3));
     }
 }
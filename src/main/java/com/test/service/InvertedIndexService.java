@@ -0,0 +1,80 @@
+package com.test.service;
+
+import com.test.dto.DocumentInput;
+import com.test.util.InvertedIndex;
+import com.test.util.WordTokenizer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Shared document index answering "which documents contain these words?".
+ *
+ * <p>Wraps an {@link InvertedIndex} with a read/write lock: searches run concurrently, ingestion is
+ * exclusive. Only document IDs and postings are retained, never the texts.</p>
+ */
+@Service
+public class InvertedIndexService {
+
+    public enum Operator {
+        AND,
+        OR
+    }
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final List<String> documentIds = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes documents; a missing ID is replaced by the document number.
+     *
+     * @return index statistics after ingestion
+     */
+    public Map<String, Object> index(List<DocumentInput> documents) {
+        lock.writeLock().lock();
+        try {
+            for (DocumentInput document : documents) {
+                int doc = index.add(document.getText() == null ? "" : document.getText());
+                documentIds.add(document.getId() != null ? document.getId() : String.valueOf(doc));
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("indexed", documents.size());
+            stats.put("documents", index.getDocumentCount());
+            stats.put("terms", index.getTermCount());
+            stats.put("postingsBytes", index.postingsBytes());
+            return stats;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param terms query words; tokenized and lowercased like indexed text
+     * @return IDs of matching documents, in ingest order
+     */
+    public List<String> search(List<String> terms, Operator operator) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String term : terms) {
+            WordTokenizer.tokenize(term, (buffer, length) -> normalized.add(new String(buffer, 0, length)));
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] docs = operator == Operator.AND ? index.and(normalized) : index.or(normalized);
+            List<String> ids = new ArrayList<>(docs.length);
+            for (int doc : docs) {
+                ids.add(documentIds.get(doc));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
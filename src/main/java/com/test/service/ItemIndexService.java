@@ -0,0 +1,105 @@
+package com.test.service;
+
+import com.test.dto.OrderInput;
+import com.test.util.ItemIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Shared item index answering "which orders contain these items?" and item co-occurrence.
+ *
+ * <p>Wraps an {@link ItemIndex} with a read/write lock like {@link InvertedIndexService}: queries run
+ * concurrently, ingestion is exclusive. Only order IDs and item postings are retained, never the orders.</p>
+ */
+@Service
+public class ItemIndexService {
+
+    private final ItemIndex index = new ItemIndex();
+    private final List<String> orderIds = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes the items of each order; a missing ID is replaced by the order number.
+     *
+     * @return index statistics after ingestion
+     */
+    public Map<String, Object> index(List<OrderInput> orders) {
+        lock.writeLock().lock();
+        try {
+            for (OrderInput order : orders) {
+                int number = index.add(order.getItems());
+                orderIds.add(order.getId() != null ? order.getId() : String.valueOf(number));
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("indexed", orders.size());
+            stats.put("orders", index.getOrderCount());
+            stats.put("distinctItems", index.getItemCount());
+            stats.put("postingsBytes", index.postingsBytes());
+            return stats;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param items exact item names
+     * @return IDs of matching orders, in ingest order
+     */
+    public List<String> search(List<String> items, InvertedIndexService.Operator operator) {
+        Set<String> query = new LinkedHashSet<>(items);
+
+        lock.readLock().lock();
+        try {
+            int[] orders = operator == InvertedIndexService.Operator.AND
+                ? index.ordersWithAll(query)
+                : index.ordersWithAny(query);
+            List<String> ids = new ArrayList<>(orders.length);
+            for (int order : orders) {
+                ids.add(orderIds.get(order));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return order and distinct item counts plus the {@code limit} items found in the most orders
+     */
+    public Map<String, Object> stats(int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("orders", index.getOrderCount());
+            stats.put("distinctItems", index.getItemCount());
+            stats.put("topItems", index.topItems(limit));
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of orders containing {@code item} and the {@code limit} items most often ordered with it
+     */
+    public Map<String, Object> coOccurrence(String item, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("item", item);
+            result.put("orders", index.orderCount(item));
+            result.put("coOccurring", index.coOccurring(item, limit));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
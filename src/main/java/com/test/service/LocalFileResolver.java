@@ -0,0 +1,61 @@
+package com.test.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Resolves file paths for endpoints that read server-side files.
+ *
+ * <p>Paths are interpreted relative to {@code practical.files.base-dir}; anything resolving outside
+ * that directory is rejected with 400, and missing files with 404. Containment is checked on real
+ * paths, so a symbolic link inside the base directory cannot point a request outside it.</p>
+ */
+@Component
+public class LocalFileResolver {
+
+    private final Path baseDir;
+
+    public LocalFileResolver(@Value("${practical.files.base-dir:data}") String baseDir) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * @param path file path relative to the base directory
+     * @return real path of an existing regular file inside the base directory
+     */
+    public Path resolve(String path) {
+        Path file;
+        try {
+            file = baseDir.resolve(path).normalize();
+        } catch (InvalidPathException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid path: " + path);
+        }
+        if (!file.startsWith(baseDir)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Path must stay inside the base directory");
+        }
+        Path realBase;
+        Path realFile;
+        try {
+            realBase = baseDir.toRealPath();
+            realFile = file.toRealPath();
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + path);
+        }
+        if (!realFile.startsWith(realBase)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Path must stay inside the base directory");
+        }
+        if (!Files.isRegularFile(realFile, LinkOption.NOFOLLOW_LINKS)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + path);
+        }
+        return realFile;
+    }
+}
@@ -0,0 +1,135 @@
+package com.test.service;
+
+import com.test.util.WordCountTable;
+import com.test.util.WordTokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * Sliding-window word counts over a live stream of text events ("trending words").
+ *
+ * <h3>Time Buckets</h3>
+ * Counts are kept in a ring of fixed-duration buckets (default 60 s) covering the retention window
+ * (default 60 minutes). Each bucket holds its own {@link WordCountTable}. A running total over the
+ * whole retention window is maintained incrementally: ingested text is added to the current bucket
+ * and to the total, and when a bucket falls out of the window its counts are subtracted from the
+ * total - nothing is ever recounted from raw text.
+ *
+ * <h3>Queries</h3>
+ * A query over the full retention window reads the running total directly; shorter windows merge
+ * only the newest buckets they cover. Both select the top N with the bounded heap used by
+ * /word-frequency, and tokenization is identical to it.
+ *
+ * <p>Text is tokenized outside the lock into a per-event table; only the merge is synchronized.</p>
+ */
+@Service
+public class TrendingWordsService {
+
+    private final long bucketMillis;
+    private final Clock clock;
+    private final WordCountTable[] buckets;
+    private final long[] bucketIds;
+    private WordCountTable total = new WordCountTable();
+    private long currentBucketId;
+    private int expiredSinceCompaction;
+
+    public TrendingWordsService(
+        @Value("${practical.trending.bucket-seconds:60}") int bucketSeconds,
+        @Value("${practical.trending.retention-minutes:60}") int retentionMinutes
+    ) {
+        if (bucketSeconds <= 0 || retentionMinutes <= 0) {
+            throw new IllegalArgumentException("bucketSeconds and retentionMinutes must be positive");
+        }
+        this.bucketMillis = bucketSeconds * 1000L;
+        this.clock = Clock.systemUTC();
+        int bucketCount = (int) Math.max(1, (retentionMinutes * 60_000L + bucketMillis - 1) / bucketMillis);
+        this.buckets = new WordCountTable[bucketCount];
+        this.bucketIds = new long[bucketCount];
+        this.currentBucketId = clock.millis() / bucketMillis;
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new WordCountTable();
+            bucketIds[i] = -1;
+        }
+    }
+
+    /**
+     * Counts the words of one text event into the current time bucket.
+     *
+     * @return number of words counted
+     */
+    public long ingest(String text) {
+        WordCountTable event = new WordCountTable();
+        WordTokenizer.tokenize(text, event);
+        synchronized (this) {
+            WordCountTable bucket = advanceTo(clock.millis() / bucketMillis);
+            bucket.mergeFrom(event);
+            total.mergeFrom(event);
+        }
+        return event.total();
+    }
+
+    /**
+     * @param minutes window length, capped at the retention window
+     * @param topN number of words to return
+     * @return word -> count over the last {@code minutes}, in descending count order
+     */
+    public synchronized Map<String, Long> top(int minutes, int topN) {
+        advanceTo(clock.millis() / bucketMillis);
+        int covered = (int) Math.min(buckets.length, Math.max(1, (minutes * 60_000L + bucketMillis - 1) / bucketMillis));
+        if (covered == buckets.length) {
+            return total.top(topN);
+        }
+        WordCountTable window = new WordCountTable();
+        for (int i = 0; i < covered; i++) {
+            long id = currentBucketId - i;
+            int index = indexOf(id);
+            if (bucketIds[index] == id) {
+                window.mergeFrom(buckets[index]);
+            }
+        }
+        return window.top(topN);
+    }
+
+    /**
+     * @return retention window covered by the running total, in minutes
+     */
+    public long getRetentionMinutes() {
+        return buckets.length * bucketMillis / 60_000L;
+    }
+
+    /**
+     * Rotates the ring forward, expiring buckets that left the window, and returns the current bucket.
+     */
+    private WordCountTable advanceTo(long bucketId) {
+        if (bucketId > currentBucketId) {
+            long steps = Math.min(bucketId - currentBucketId, buckets.length);
+            for (long id = bucketId - steps + 1; id <= bucketId; id++) {
+                expire(indexOf(id));
+            }
+            currentBucketId = bucketId;
+        }
+        int index = indexOf(currentBucketId);
+        bucketIds[index] = currentBucketId;
+        return buckets[index];
+    }
+
+    private void expire(int index) {
+        if (bucketIds[index] >= 0) {
+            total.subtract(buckets[index]);
+            buckets[index] = new WordCountTable();
+            bucketIds[index] = -1;
+            // Subtracted words keep dead slots in the total; rebuild it once per full rotation
+            if (++expiredSinceCompaction >= buckets.length) {
+                total = total.compact();
+                expiredSinceCompaction = 0;
+            }
+        }
+    }
+
+    private int indexOf(long bucketId) {
+        return (int) Math.floorMod(bucketId, (long) buckets.length);
+    }
+}
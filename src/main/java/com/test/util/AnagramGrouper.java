@@ -0,0 +1,168 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Groups words into anagram classes without sorting the characters of each word.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Signature:</strong> each char is mapped to a scrambled 64-bit value and the values are
+ *         summed. Addition is order-independent, so all anagrams share a signature, computed in one O(k)
+ *         pass with no char[] copy and no sort (a prime-product hash works the same way, but overflows
+ *         for long words)</li>
+ *     <li><strong>Verification:</strong> different multisets can collide on a 64-bit sum, so a word only
+ *         joins a class after a char-count comparison with the class representative; a colliding word
+ *         starts its own class under the same signature</li>
+ *     <li><strong>Parallel grouping:</strong> large inputs are grouped by a parallel stream into a
+ *         {@link ConcurrentHashMap}; {@code compute} makes the verify-and-add atomic per signature</li>
+ * </ul>
+ */
+public final class AnagramGrouper {
+
+    /** Inputs smaller than this are grouped sequentially; forking costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private static final ThreadLocal<int[]> ASCII_COUNTS = ThreadLocal.withInitial(() -> new int[128]);
+
+    private AnagramGrouper() {
+    }
+
+    /**
+     * Groups {@code words} into anagram classes.
+     *
+     * @param ignoreCase compare chars after {@link Character#toLowerCase(char)}
+     * @param minSize smallest class returned, counted in distinct members; 2 drops words without anagrams
+     * @return classes with distinct, sorted members, largest class first (ties by first member)
+     */
+    public static List<List<String>> group(Collection<String> words, boolean ignoreCase, int minSize) {
+        Map<Long, AnagramClass> classes = new ConcurrentHashMap<>();
+        (words.size() >= PARALLEL_THRESHOLD ? words.parallelStream() : words.stream())
+            .forEach(word -> classes.compute(signature(word, ignoreCase), (key, head) -> {
+                // Signature collisions chain further classes behind the first one
+                for (AnagramClass anagramClass = head; anagramClass != null; anagramClass = anagramClass.next) {
+                    if (isAnagram(anagramClass.representative(), word, ignoreCase)) {
+                        anagramClass.members.add(word);
+                        return head;
+                    }
+                }
+                return new AnagramClass(word, head);
+            }));
+
+        Stream<AnagramClass> all = (classes.size() >= PARALLEL_THRESHOLD
+            ? classes.values().parallelStream()
+            : classes.values().stream())
+            .flatMap(head -> Stream.iterate(head, Objects::nonNull, anagramClass -> anagramClass.next));
+        return all
+            .filter(anagramClass -> anagramClass.members.size() >= minSize)
+            .map(AnagramClass::distinctSortedMembers)
+            .filter(members -> members.size() >= minSize)
+            .sorted((a, b) -> a.size() != b.size() ? Integer.compare(b.size(), a.size()) : a.get(0).compareTo(b.get(0)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return order-independent 64-bit signature of the chars of {@code word}
+     */
+    static long signature(String word, boolean ignoreCase) {
+        long sum = word.length();
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            sum += Hashing.mix64((ignoreCase ? Character.toLowerCase(c) : c) + SEED);
+        }
+        return sum;
+    }
+
+    /**
+     * Exact check that {@code a} and {@code b} hold the same multiset of chars.
+     */
+    static boolean isAnagram(String a, String b, boolean ignoreCase) {
+        if (a.length() != b.length()) {
+            return false;
+        }
+        int[] counts = ASCII_COUNTS.get();
+        int length = a.length();
+        boolean ascii = true;
+        for (int i = 0; i < length && ascii; i++) {
+            char ca = fold(a.charAt(i), ignoreCase);
+            char cb = fold(b.charAt(i), ignoreCase);
+            if (ca >= counts.length || cb >= counts.length) {
+                ascii = false;
+            } else {
+                counts[ca]++;
+                counts[cb]--;
+            }
+        }
+        boolean equal = ascii;
+        for (int i = 0; i < length && equal; i++) {
+            // Every non-zero slot is positive for some char of a, since the lengths match
+            char ca = fold(a.charAt(i), ignoreCase);
+            equal = counts[ca] == 0;
+        }
+        for (int i = 0; i < length; i++) {
+            // Reset the shared table; every touched slot belongs to one of these chars
+            char ca = fold(a.charAt(i), ignoreCase);
+            char cb = fold(b.charAt(i), ignoreCase);
+            if (ca < counts.length) {
+                counts[ca] = 0;
+            }
+            if (cb < counts.length) {
+                counts[cb] = 0;
+            }
+        }
+        if (ascii) {
+            return equal;
+        }
+        // Rare non-ASCII case: fall back to comparing sorted chars
+        return Arrays.equals(sortedChars(a, ignoreCase), sortedChars(b, ignoreCase));
+    }
+
+    private static char fold(char c, boolean ignoreCase) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private static char[] sortedChars(String word, boolean ignoreCase) {
+        char[] chars = new char[word.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(word.charAt(i), ignoreCase);
+        }
+        Arrays.sort(chars);
+        return chars;
+    }
+
+    private static final class AnagramClass {
+
+        private final List<String> members = new ArrayList<>(2);
+        private final AnagramClass next;
+
+        AnagramClass(String first, AnagramClass next) {
+            members.add(first);
+            this.next = next;
+        }
+
+        String representative() {
+            return members.get(0);
+        }
+
+        List<String> distinctSortedMembers() {
+            members.sort(null);
+            int size = 0;
+            for (String member : members) {
+                if (size == 0 || !member.equals(members.get(size - 1))) {
+                    members.set(size++, member);
+                }
+            }
+            return members.subList(0, size);
+        }
+    }
+}
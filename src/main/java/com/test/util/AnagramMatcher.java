@@ -0,0 +1,84 @@
+package com.test.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Finds every window of a text that is an anagram (permutation) of a pattern, in one O(n) pass.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Count array:</strong> {@code diff[c]} = occurrences of {@code c} in the window minus
+ *         occurrences in the pattern, for chars up to the largest pattern char</li>
+ *     <li><strong>Match counter:</strong> {@code mismatches} tracks how many slots are non-zero; sliding the
+ *         window updates two slots and adjusts the counter, so each step is O(1) regardless of pattern length</li>
+ *     <li><strong>Foreign chars:</strong> a char above the table cannot be in the pattern; the position of the
+ *         last such char is remembered and any window covering it is rejected</li>
+ * </ul>
+ *
+ * <p>Windows are compared as UTF-16 chars, like the sort-based version in {@code ReverseAndAnagramExample}.</p>
+ */
+public final class AnagramMatcher {
+
+    private AnagramMatcher() {
+    }
+
+    /**
+     * Calls {@code onMatch} with the start index of every anagram of {@code pattern} in {@code text},
+     * in ascending order. Overlapping matches are all reported.
+     *
+     * @return number of matches
+     */
+    public static int find(CharSequence text, CharSequence pattern, IntConsumer onMatch) {
+        int k = pattern.length();
+        int n = text.length();
+        if (k == 0 || k > n) {
+            return 0;
+        }
+        char max = 0;
+        for (int i = 0; i < k; i++) {
+            max = (char) Math.max(max, pattern.charAt(i));
+        }
+        int[] diff = new int[max + 1];
+        int mismatches = 0;
+        for (int i = 0; i < k; i++) {
+            if (diff[pattern.charAt(i)]-- == 0) {
+                mismatches++;
+            }
+        }
+
+        int lastForeign = -1;
+        int matches = 0;
+        for (int i = 0; i < n; i++) {
+            // Add text[i] to the window
+            char in = text.charAt(i);
+            if (in > max) {
+                lastForeign = i;
+            } else {
+                int before = diff[in]++;
+                if (before == 0) {
+                    mismatches++;
+                } else if (before == -1) {
+                    mismatches--;
+                }
+            }
+            // Drop text[i - k] so the window is [i - k + 1, i]
+            if (i >= k) {
+                char out = text.charAt(i - k);
+                if (out <= max) {
+                    int before = diff[out]--;
+                    if (before == 0) {
+                        mismatches++;
+                    } else if (before == 1) {
+                        mismatches--;
+                    }
+                }
+            }
+            int start = i - k + 1;
+            if (start >= 0 && mismatches == 0 && lastForeign < start) {
+                matches++;
+                onMatch.accept(start);
+            }
+        }
+        return matches;
+    }
+}
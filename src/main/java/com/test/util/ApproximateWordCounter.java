@@ -0,0 +1,83 @@
+package com.test.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Constant-memory word statistics: {@link SpaceSaving} for top-K plus {@link CountMinSketch} for
+ * point queries, fed together from a {@link WordTokenizer}.
+ *
+ * <p>Both structures are sized from a single relative error bound {@code epsilon}: Space-Saving
+ * keeps {@code ceil(1 / epsilon)} counters and the sketch uses {@code ceil(e / epsilon)} columns,
+ * so every reported count is within {@code epsilon * N} of the truth (the sketch with probability
+ * {@code 1 - delta}). Memory depends only on epsilon and delta, never on vocabulary size.</p>
+ *
+ * <p>Counters built with the same parameters can be merged, so each parallel worker can count its
+ * own slice of a corpus and the partial results combined at the end.</p>
+ */
+public final class ApproximateWordCounter implements WordTokenizer.TokenSink {
+
+    private final SpaceSaving heavyHitters;
+    private final CountMinSketch sketch;
+
+    /**
+     * @throws IllegalArgumentException if epsilon or delta is out of the range {@link CountMinSketch} accepts
+     */
+    public ApproximateWordCounter(double epsilon, double delta) {
+        this.sketch = new CountMinSketch(epsilon, delta);
+        this.heavyHitters = new SpaceSaving((int) Math.ceil(1 / epsilon));
+    }
+
+    @Override
+    public void accept(char[] buffer, int length) {
+        sketch.add(buffer, length);
+        heavyHitters.add(buffer, length);
+    }
+
+    public void merge(ApproximateWordCounter other) {
+        sketch.merge(other.sketch);
+        heavyHitters.merge(other.heavyHitters);
+    }
+
+    /**
+     * @return estimated top k words, in descending estimated count order
+     */
+    public Map<String, Long> top(int k) {
+        return heavyHitters.top(k);
+    }
+
+    /**
+     * @return per-word maximum overestimation for {@link #top(int)}
+     */
+    public Map<String, Long> topErrors(int k) {
+        return heavyHitters.topErrors(k);
+    }
+
+    /**
+     * @return Count-Min estimate for {@code word}; never below the true count
+     */
+    public long estimate(String word) {
+        return sketch.estimate(word);
+    }
+
+    public long totalWords() {
+        return sketch.getTotalCount();
+    }
+
+    /**
+     * @return error bounds and memory footprint of both structures, for reporting
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalWords", sketch.getTotalCount());
+        stats.put("epsilon", sketch.getEpsilon());
+        stats.put("delta", sketch.getDelta());
+        stats.put("topKMaxError", heavyHitters.errorBound());
+        stats.put("pointQueryMaxError", sketch.errorBound());
+        stats.put("spaceSavingCounters", heavyHitters.getCapacity());
+        stats.put("countMinWidth", sketch.getWidth());
+        stats.put("countMinDepth", sketch.getDepth());
+        stats.put("memoryBytes", sketch.sizeInBytes() + heavyHitters.estimatedSizeInBytes());
+        return stats;
+    }
+}
@@ -0,0 +1,95 @@
+package com.test.util;
+
+/**
+ * Memory-bounded Bloom filter for strings.
+ *
+ * <p>Answers "definitely not seen" or "maybe seen" using a fixed bit array sized from the
+ * expected number of insertions and the acceptable false-positive probability. Roughly
+ * 1.2 bytes per element at a 1% false-positive rate, regardless of string length.</p>
+ *
+ * <p>Hashing uses one 64-bit {@code Hashing} pass over the string; a second 64-bit hash is derived
+ * from it with {@code Hashing.mix64}, and the two are combined with the Kirsch-Mitzenmacher
+ * double-hashing scheme in 64-bit arithmetic, so every bit is reachable even for filters larger
+ * than 2^32 bits (512 MB).</p>
+ */
+public final class BloomFilter {
+
+    private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions expected number of distinct elements (must be positive)
+     * @param falsePositiveRate target false-positive probability, between 0 and 1 (exclusive)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        m = Math.max(64, m);
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6)];
+        this.bitCount = (long) bits.length << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * ln2));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @return true if the value was possibly present already (all its bits were set)
+     */
+    public boolean put(String value) {
+        long h1 = Hashing.hash64(value);
+        long h2 = Hashing.mix64(h1 ^ SECOND_HASH_SEED);
+        boolean present = true;
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                present = false;
+                bits[word] |= mask;
+            }
+        }
+        return present;
+    }
+
+    /**
+     * @return false if the value was definitely never added, true if it may have been
+     */
+    public boolean mightContain(String value) {
+        long h1 = Hashing.hash64(value);
+        long h2 = Hashing.mix64(h1 ^ SECOND_HASH_SEED);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return bit position in [0, bitCount) for a combined 64-bit hash
+     */
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * @return size of the bit array in bytes
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+}
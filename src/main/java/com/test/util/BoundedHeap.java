@@ -0,0 +1,95 @@
+package com.test.util;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Top-k selection over int ids (slots, dictionary codes) with a size-k min-heap: O(n log k) instead of
+ * sorting all n candidates. The ranking is supplied as a primitive predicate, so values stay in the
+ * caller's parallel arrays and nothing is boxed.
+ */
+final class BoundedHeap {
+
+    /**
+     * Strict ranking between two ids.
+     */
+    @FunctionalInterface
+    interface Ranking {
+
+        /**
+         * @return true if {@code a} ranks before (is better than) {@code b}; must be a strict total order
+         */
+        boolean ranksBefore(int a, int b);
+    }
+
+    private BoundedHeap() {
+    }
+
+    /**
+     * @param ids candidates are {@code 0..ids-1}
+     * @param k number of ids to keep; negative is treated as 0
+     * @param include candidates to consider
+     * @param ranking order of the result
+     * @return at most {@code k} ids, best first
+     */
+    static int[] top(int ids, int k, IntPredicate include, Ranking ranking) {
+        int limit = Math.min(Math.max(k, 0), ids);
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int id = 0; id < ids && limit > 0; id++) {
+            if (!include.test(id)) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++, ranking);
+            } else if (ranking.ranksBefore(id, heap[0])) {
+                heap[0] = id;                                 // evict the current k-th best
+                siftDown(heap, heapSize, ranking);
+            }
+        }
+
+        // Drain the heap worst-first and fill the result from the back
+        int[] ordered = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ordered[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, ranking);
+        }
+        return ordered;
+    }
+
+    private static void siftUp(int[] heap, int index, Ranking ranking) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranking.ranksBefore(heap[parent], id)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, Ranking ranking) {
+        int index = 0;
+        int id = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranking.ranksBefore(heap[child], heap[child + 1])) {
+                child++;                                      // pick the worse child
+            }
+            if (!ranking.ranksBefore(id, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (heapSize > 0) {
+            heap[index] = id;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Array-backed character histogram computing all-character and letters-only counts in one pass.
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *     <li><strong>BMP:</strong> int counts in 256-entry pages indexed directly by char - an increment is
+ *         one array store, no boxing and no hashing. Pages are allocated only for the char ranges the text
+ *         touches, so ASCII text costs one 1 KB page instead of a 64K-entry table</li>
+ *     <li><strong>Supplementary code points</strong> (emoji, rare CJK): a small overflow map, since they are
+ *         rare and the direct table would need 1.1M slots</li>
+ *     <li><strong>Appearance order:</strong> code points are recorded the first time their count becomes
+ *         non-zero, which reproduces the LinkedHashMap ordering of the groupingBy version</li>
+ * </ul>
+ *
+ * <p>Letters-only counts use the lowercase code point and keep it when {@link Character#isLetter(int)}.</p>
+ *
+ * <p>Instances are cheap and meant to be created per call; nothing is retained per thread. Not
+ * thread-safe.</p>
+ */
+public final class CharHistogram {
+
+    private final Counts all = new Counts();
+    private final Counts letters = new Counts();
+
+    /**
+     * Counts every code point of {@code text}, and its lowercase form if it is a letter.
+     */
+    public CharHistogram add(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+                i += 2;
+            } else {
+                i++;
+            }
+            all.increment(codePoint);
+            int lower = Character.toLowerCase(codePoint);
+            if (Character.isLetter(lower)) {
+                letters.increment(lower);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return every code point -> count, in order of first appearance
+     */
+    public Map<String, Long> allCounts() {
+        return all.toMap();
+    }
+
+    /**
+     * @return lowercase letter -> count, in order of first appearance
+     */
+    public Map<String, Long> letterCounts() {
+        return letters.toMap();
+    }
+
+    public void reset() {
+        all.reset();
+        letters.reset();
+    }
+
+    private static final class Counts {
+        private static final int PAGE_BITS = 8;
+        private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+        // Text length is an int, so no count can exceed Integer.MAX_VALUE
+        private final int[][] bmp = new int[(Character.MAX_VALUE + 1) >>> PAGE_BITS][];
+        private final Map<Integer, long[]> supplementary = new HashMap<>();
+        private int[] order = new int[64];
+        private int distinct;
+
+        void increment(int codePoint) {
+            if (codePoint <= Character.MAX_VALUE) {
+                int[] page = bmp[codePoint >>> PAGE_BITS];
+                if (page == null) {
+                    page = new int[PAGE_MASK + 1];
+                    bmp[codePoint >>> PAGE_BITS] = page;
+                }
+                if (page[codePoint & PAGE_MASK]++ == 0) {
+                    record(codePoint);
+                }
+            } else {
+                long[] count = supplementary.get(codePoint);
+                if (count == null) {
+                    supplementary.put(codePoint, new long[] {1});
+                    record(codePoint);
+                } else {
+                    count[0]++;
+                }
+            }
+        }
+
+        long get(int codePoint) {
+            if (codePoint <= Character.MAX_VALUE) {
+                int[] page = bmp[codePoint >>> PAGE_BITS];
+                return page == null ? 0 : page[codePoint & PAGE_MASK];
+            }
+            long[] count = supplementary.get(codePoint);
+            return count == null ? 0 : count[0];
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int i = 0; i < distinct; i++) {
+                result.put(Character.toString(order[i]), get(order[i]));
+            }
+            return result;
+        }
+
+        void reset() {
+            Arrays.fill(bmp, null);
+            supplementary.clear();
+            distinct = 0;
+        }
+
+        private void record(int codePoint) {
+            if (distinct == order.length) {
+                order = Arrays.copyOf(order, distinct * 2);
+            }
+            order[distinct++] = codePoint;
+        }
+    }
+}
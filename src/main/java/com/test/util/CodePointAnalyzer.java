@@ -0,0 +1,229 @@
+package com.test.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel, code-point correct character histograms for large texts and local UTF-8 files.
+ *
+ * <h3>How it works</h3>
+ * <ol>
+ *     <li><strong>Chunking:</strong> the input is cut into chunks of about {@code chunkSize} chars (text) or
+ *         bytes (file). A cut never splits a character: in text it is moved past a low surrogate that
+ *         follows a high surrogate, in a file past UTF-8 continuation bytes ({@code 10xxxxxx})</li>
+ *     <li><strong>Counting:</strong> each fork/join task counts its chunk into its own {@link CodePointCounts};
+ *         files are memory-mapped per chunk and decoded from UTF-8 in place, without a CharBuffer copy</li>
+ *     <li><strong>Merging:</strong> partial histograms are merged pairwise as the tasks join</li>
+ * </ol>
+ *
+ * <p>Malformed UTF-8 sequences count as U+FFFD, one per offending byte.</p>
+ */
+public final class CodePointAnalyzer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final ForkJoinPool filePool;
+
+    /**
+     * Text is counted on the common pool; files on the dedicated {@link FileScanPool}, so blocking
+     * page faults never occupy common-pool workers used by parallel streams.
+     */
+    public CodePointAnalyzer() {
+        this(DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool(), FileScanPool.get());
+    }
+
+    /**
+     * @param chunkSize target chars (text) or bytes (file) per chunk
+     * @param pool pool running the per-chunk tasks, for text and files
+     */
+    public CodePointAnalyzer(int chunkSize, ForkJoinPool pool) {
+        this(chunkSize, pool, pool);
+    }
+
+    private CodePointAnalyzer(int chunkSize, ForkJoinPool pool, ForkJoinPool filePool) {
+        if (chunkSize < 4) {
+            throw new IllegalArgumentException("chunkSize must be at least 4");
+        }
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+        this.filePool = filePool;
+    }
+
+    /**
+     * Counts the code points of {@code text}.
+     */
+    public CodePointCounts analyze(CharSequence text) {
+        int length = text.length();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        int position = 0;
+        while (length - position > chunkSize) {
+            int cut = position + chunkSize;
+            // Keep a surrogate pair in one chunk
+            if (Character.isLowSurrogate(text.charAt(cut)) && Character.isHighSurrogate(text.charAt(cut - 1))) {
+                cut++;
+            }
+            bounds.add((long) cut);
+            position = cut;
+        }
+        bounds.add((long) length);
+        return pool.invoke(new CountTask(toArray(bounds), 0, bounds.size() - 1,
+            (from, to) -> new CodePointCounts().add(text, (int) from, (int) to)));
+    }
+
+    /**
+     * Counts the code points of a UTF-8 file.
+     */
+    public CodePointCounts analyze(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            try {
+                return filePool.invoke(new CountTask(bounds, 0, bounds.length - 1,
+                    (from, to) -> countChunk(channel, from, to)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * @return ascending chunk boundaries from 0 to the file size; no boundary falls inside a UTF-8 sequence
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer probe = ByteBuffer.allocate(4);
+        while (size - position > chunkSize) {
+            long cut = position + chunkSize;
+            // A sequence is at most 4 bytes, so at most 3 continuation bytes need skipping
+            probe.clear();
+            int read = channel.read(probe, cut);
+            for (int i = 0; i < read && (probe.get(i) & 0xC0) == 0x80; i++) {
+                cut++;
+            }
+            if (cut >= size) {
+                break;
+            }
+            bounds.add(cut);
+            position = cut;
+        }
+        bounds.add(size);
+        return toArray(bounds);
+    }
+
+    private static CodePointCounts countChunk(FileChannel channel, long start, long end) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CodePointCounts counts = new CodePointCounts();
+        int limit = buffer.limit();
+        int i = 0;
+        while (i < limit) {
+            int b0 = buffer.get(i) & 0xFF;
+            if (b0 < 0x80) {
+                counts.increment(b0);
+                i++;
+                continue;
+            }
+            int length;
+            int codePoint;
+            int min;
+            if ((b0 & 0xE0) == 0xC0) {
+                length = 2;
+                codePoint = b0 & 0x1F;
+                min = 0x80;
+            } else if ((b0 & 0xF0) == 0xE0) {
+                length = 3;
+                codePoint = b0 & 0x0F;
+                min = 0x800;
+            } else if ((b0 & 0xF8) == 0xF0) {
+                length = 4;
+                codePoint = b0 & 0x07;
+                min = 0x10000;
+            } else {
+                counts.increment(REPLACEMENT_CHARACTER);
+                i++;
+                continue;
+            }
+            boolean valid = i + length <= limit;
+            for (int k = 1; valid && k < length; k++) {
+                int b = buffer.get(i + k) & 0xFF;
+                valid = (b & 0xC0) == 0x80;
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            // Reject overlong forms, UTF-16 surrogates and values past U+10FFFF
+            if (!valid || codePoint < min || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                counts.increment(REPLACEMENT_CHARACTER);
+                i++;
+                continue;
+            }
+            counts.increment(codePoint);
+            i += length;
+        }
+        return counts;
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    @FunctionalInterface
+    private interface ChunkCounter {
+        CodePointCounts count(long from, long to);
+    }
+
+    /**
+     * Counts chunks {@code [from, to)} by splitting the range in halves until one chunk remains.
+     */
+    private static final class CountTask extends RecursiveTask<CodePointCounts> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+        private final transient ChunkCounter counter;
+
+        CountTask(long[] bounds, int from, int to, ChunkCounter counter) {
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.counter = counter;
+        }
+
+        @Override
+        protected CodePointCounts compute() {
+            if (to - from <= 1) {
+                return counter.count(bounds[from], bounds[to]);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(bounds, from, mid, counter);
+            left.fork();
+            CodePointCounts right = new CountTask(bounds, mid, to, counter).compute();
+            return left.join().mergeFrom(right);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Per-code-point occurrence counts over the full Unicode range, mergeable across threads.
+ *
+ * <p>Counts live in 256-entry {@code long[]} pages allocated on first use, so a histogram of mostly-Latin
+ * text costs a few KB while every code point up to U+10FFFF is still a direct array index - no boxing, no
+ * hashing and no overflow map for emoji or CJK extension characters.</p>
+ *
+ * <p>Category and script breakdowns are derived from the per-code-point counts after counting, so
+ * {@link Character#getType(int)} and {@link Character.UnicodeScript#of(int)} run once per distinct code
+ * point instead of once per character.</p>
+ */
+public final class CodePointCounts {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_COUNT = (Character.MAX_CODE_POINT + 1) >>> PAGE_BITS;
+
+    /** Two-letter Unicode general category abbreviations, indexed by {@link Character#getType(int)}. */
+    private static final String[] CATEGORY_CODES = {
+        "Cn", "Lu", "Ll", "Lt", "Lm", "Lo", "Mn", "Me", "Mc", "Nd", "Nl", "No", "Zs", "Zl", "Zp", "Cc",
+        "Cf", "??", "Co", "Cs", "Pd", "Ps", "Pe", "Pc", "Po", "Sm", "Sc", "Sk", "So", "Pi", "Pf"
+    };
+
+    private final long[][] pages = new long[PAGE_COUNT][];
+    private long total;
+
+    /**
+     * Counts one occurrence of {@code codePoint}.
+     */
+    public void increment(int codePoint) {
+        long[] page = pages[codePoint >>> PAGE_BITS];
+        if (page == null) {
+            page = new long[PAGE_SIZE];
+            pages[codePoint >>> PAGE_BITS] = page;
+        }
+        page[codePoint & (PAGE_SIZE - 1)]++;
+        total++;
+    }
+
+    /**
+     * Counts every code point of {@code text} in {@code [from, to)}. A surrogate pair is counted as one
+     * supplementary code point; an unpaired surrogate is counted as itself (category Cs).
+     */
+    public CodePointCounts add(CharSequence text, int from, int to) {
+        int i = from;
+        while (i < to) {
+            char c = text.charAt(i++);
+            if (Character.isHighSurrogate(c) && i < to && Character.isLowSurrogate(text.charAt(i))) {
+                increment(Character.toCodePoint(c, text.charAt(i++)));
+            } else {
+                increment(c);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds all counts of {@code other} into this histogram.
+     */
+    public CodePointCounts mergeFrom(CodePointCounts other) {
+        for (int p = 0; p < PAGE_COUNT; p++) {
+            long[] source = other.pages[p];
+            if (source == null) {
+                continue;
+            }
+            long[] target = pages[p];
+            if (target == null) {
+                pages[p] = source.clone();
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                target[i] += source[i];
+            }
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @return count for {@code codePoint}
+     */
+    public long get(int codePoint) {
+        long[] page = pages[codePoint >>> PAGE_BITS];
+        return page == null ? 0 : page[codePoint & (PAGE_SIZE - 1)];
+    }
+
+    /**
+     * @return number of code points counted
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return number of distinct code points counted
+     */
+    public int distinct() {
+        int distinct = 0;
+        for (long[] page : pages) {
+            if (page != null) {
+                for (long count : page) {
+                    if (count > 0) {
+                        distinct++;
+                    }
+                }
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Returns the {@code limit} most frequent code points, most frequent first (ties by code point).
+     * Each entry holds {@code codePoint} ("U+1F600"), {@code character} (absent for surrogates),
+     * {@code count}, {@code category} and {@code script}.
+     */
+    public List<Map<String, Object>> top(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        // Min-heap of {codePoint, count} keeps only the current top 'limit'; never larger than the histogram
+        limit = Math.min(limit, distinct());
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1, (a, b) -> a[1] != b[1]
+            ? Long.compare(a[1], b[1])
+            : Long.compare(b[0], a[0]));
+        for (int p = 0; p < PAGE_COUNT; p++) {
+            long[] page = pages[p];
+            if (page == null) {
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                if (page[i] > 0) {
+                    heap.offer(new long[] {(p << PAGE_BITS) | i, page[i]});
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+        }
+        List<Map<String, Object>> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            long[] entry = heap.poll();
+            int codePoint = (int) entry[0];
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("codePoint", String.format("U+%04X", codePoint));
+            if (Character.getType(codePoint) != Character.SURROGATE) {
+                row.put("character", new String(Character.toChars(codePoint)));
+            }
+            row.put("count", entry[1]);
+            row.put("category", categoryCode(codePoint));
+            row.put("script", Character.UnicodeScript.of(codePoint).name());
+            top.add(row);
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    /**
+     * @return two-letter general category (e.g. "Lu", "Nd", "So") -> count, sorted by category
+     */
+    public Map<String, Long> byCategory() {
+        Map<String, Long> counts = new TreeMap<>();
+        forEach((codePoint, count) -> counts.merge(categoryCode(codePoint), count, Long::sum));
+        return counts;
+    }
+
+    /**
+     * @return Unicode script name (e.g. "LATIN", "HAN", "COMMON") -> count, sorted by script
+     */
+    public Map<String, Long> byScript() {
+        Map<String, Long> counts = new TreeMap<>();
+        forEach((codePoint, count) -> counts.merge(Character.UnicodeScript.of(codePoint).name(), count, Long::sum));
+        return counts;
+    }
+
+    /**
+     * Summary used by the REST layer: totals, the top code points and the category/script breakdowns.
+     */
+    public Map<String, Object> summary(int topN) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalCodePoints", total);
+        summary.put("distinctCodePoints", distinct());
+        summary.put("topCodePoints", top(topN));
+        summary.put("byCategory", byCategory());
+        summary.put("byScript", byScript());
+        return summary;
+    }
+
+    private void forEach(CodePointConsumer consumer) {
+        for (int p = 0; p < PAGE_COUNT; p++) {
+            long[] page = pages[p];
+            if (page == null) {
+                continue;
+            }
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                if (page[i] > 0) {
+                    consumer.accept((p << PAGE_BITS) | i, page[i]);
+                }
+            }
+        }
+    }
+
+    private static String categoryCode(int codePoint) {
+        return CATEGORY_CODES[Character.getType(codePoint)];
+    }
+
+    @FunctionalInterface
+    private interface CodePointConsumer {
+        void accept(int codePoint, long count);
+    }
+}
@@ -0,0 +1,135 @@
+package com.test.util;
+
+/**
+ * Count-Min sketch for approximate point frequency queries in constant memory.
+ *
+ * <p>{@code depth} rows of {@code width} counters; every add increments one counter per row and
+ * a query returns the minimum over the rows. Estimates never undercount, and with probability
+ * at least {@code 1 - delta} they overcount by at most {@code epsilon * totalCount}, where
+ * {@code width = ceil(e / epsilon)} and {@code depth = ceil(ln(1 / delta))}.</p>
+ *
+ * <p>Sketches with the same dimensions are mergeable by adding counters, so per-worker sketches
+ * can be combined into one.</p>
+ */
+public final class CountMinSketch {
+
+    /** Smallest accepted epsilon: ceil(e / 1e-4) = 27,183 columns per row. */
+    public static final double MIN_EPSILON = 1e-4;
+
+    /** Upper bound on width * depth (16 MB of counters), whatever delta is requested. */
+    public static final int MAX_COUNTERS = 1 << 21;
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private final double epsilon;
+    private final double delta;
+    private long totalCount;
+
+    /**
+     * @param epsilon relative error bound, in [{@link #MIN_EPSILON}, 1)
+     * @param delta failure probability of the error bound, in (0, 1)
+     * @throws IllegalArgumentException if a parameter is out of range or the sketch would exceed
+     *         {@link #MAX_COUNTERS}
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        if (!(epsilon >= MIN_EPSILON && epsilon < 1)) {
+            throw new IllegalArgumentException("epsilon must be in [" + MIN_EPSILON + ", 1): " + epsilon);
+        }
+        if (delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("delta must be in (0, 1): " + delta);
+        }
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        long size = Math.multiplyExact((long) width, (long) depth);
+        if (size > MAX_COUNTERS) {
+            throw new IllegalArgumentException("epsilon " + epsilon + " and delta " + delta
+                + " need " + size + " counters; at most " + MAX_COUNTERS + " are allowed");
+        }
+        this.counters = new long[(int) size];
+    }
+
+    public void add(String value, long count) {
+        addHash(Hashing.hash64(value), count);
+    }
+
+    /**
+     * Adds one occurrence of the token held in {@code buffer[0, length)} without creating a String.
+     */
+    public void add(char[] buffer, int length) {
+        addHash(Hashing.hash64(buffer, length), 1);
+    }
+
+    /**
+     * @return estimated count of {@code value}: never below the true count
+     */
+    public long estimate(String value) {
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + column(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds the counters of a sketch with identical dimensions into this one.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * @return worst-case overcount of any estimate (holding with probability 1 - delta)
+     */
+    public long errorBound() {
+        return (long) Math.ceil(epsilon * totalCount);
+    }
+
+    public long sizeInBytes() {
+        return (long) counters.length * Long.BYTES;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    public double getDelta() {
+        return delta;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    private void addHash(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(h1, h2, row)] += count;
+        }
+        totalCount += count;
+    }
+
+    private int column(int h1, int h2, int row) {
+        return (int) (Integer.toUnsignedLong(h1 + (row + 1) * h2) % width);
+    }
+}
@@ -0,0 +1,270 @@
+package com.test.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * One-pass distribution statistics (count, min, max, mean, quantiles, histogram) over primitive arrays.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Chunks:</strong> large inputs are split into chunks summarized in parallel and merged</li>
+ *     <li><strong>Integers:</strong> each chunk counts into an exact {@link IntHistogram}; as long as all
+ *         values span at most {@link IntHistogram#DEFAULT_MAX_RANGE}, quantiles and the histogram are
+ *         exact. A chunk whose range grows too wide switches to a {@link KllSketch}, and exact chunks are
+ *         folded into sketches as weighted items when merging with it</li>
+ *     <li><strong>Doubles:</strong> each chunk feeds a {@link KllSketch}; the histogram is split into
+ *         equal-width bins whose counts are read from the sketch's ranks</li>
+ * </ul>
+ *
+ * <p>Count, min, max and mean are always exact; nothing is sorted.</p>
+ */
+public final class DistributionSummary {
+
+    /** Inputs smaller than this are summarized as a single chunk. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Upper bound on the number of histogram bins a caller may ask for. */
+    public static final int MAX_BINS = 1000;
+
+    private final long count;
+    private final double min;
+    private final double max;
+    private final double sum;
+    private final IntHistogram exact;
+    private final KllSketch sketch;
+
+    private DistributionSummary(long count, double min, double max, double sum, IntHistogram exact, KllSketch sketch) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.exact = exact;
+        this.sketch = sketch;
+    }
+
+    /**
+     * Summarizes integer values; exact when they span a small range.
+     */
+    public static DistributionSummary ofInts(int[] values) {
+        return chunks(values.length).map(range -> {
+            Partial partial = new Partial(true);
+            for (int i = range[0]; i < range[1]; i++) {
+                partial.add(values[i]);
+            }
+            return partial;
+        }).reduce(Partial::merge).orElseGet(() -> new Partial(true)).toSummary();
+    }
+
+    /**
+     * Summarizes double values with a quantile sketch.
+     */
+    public static DistributionSummary ofDoubles(double[] values) {
+        return chunks(values.length).map(range -> {
+            Partial partial = new Partial(false);
+            for (int i = range[0]; i < range[1]; i++) {
+                partial.addToSketch(values[i]);
+            }
+            return partial;
+        }).reduce(Partial::merge).orElseGet(() -> new Partial(false)).toSummary();
+    }
+
+    /**
+     * @return true if quantiles and histogram are exact
+     */
+    public boolean isExact() {
+        return exact != null;
+    }
+
+    /**
+     * @return value at rank {@code q} (0..1), nearest-rank definition; approximate unless {@link #isExact()}
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return exact != null ? exact.quantile(q) : sketch.quantile(q);
+    }
+
+    /**
+     * Validates the options of {@link #toMap(List, int)}, so callers can reject them before summarizing.
+     *
+     * @throws IllegalArgumentException if a quantile is outside [0, 1] or {@code bins} is outside [1, {@link #MAX_BINS}]
+     */
+    public static void checkOptions(List<Double> quantiles, int bins) {
+        for (Double q : quantiles) {
+            if (q == null || !(q >= 0 && q <= 1)) {
+                throw new IllegalArgumentException("quantiles must be between 0 and 1: " + q);
+            }
+        }
+        if (bins < 1 || bins > MAX_BINS) {
+            throw new IllegalArgumentException("bins must be between 1 and " + MAX_BINS + ": " + bins);
+        }
+    }
+
+    /**
+     * Summary used by the REST layer.
+     *
+     * @param quantiles ranks to report, e.g. 0.5, 0.9, 0.99 (reported as p50, p90, p99)
+     * @param bins number of equal-width bins for approximate histograms; exact histograms list every value
+     * @throws IllegalArgumentException if the options are invalid, see {@link #checkOptions(List, int)}
+     */
+    public Map<String, Object> toMap(List<Double> quantiles, int bins) {
+        checkOptions(quantiles, bins);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count);
+        if (count == 0) {
+            return result;
+        }
+        result.put("min", min);
+        result.put("max", max);
+        result.put("mean", sum / count);
+        result.put("exact", isExact());
+        Map<String, Double> quantileValues = new LinkedHashMap<>();
+        for (double q : quantiles) {
+            quantileValues.put("p" + formatPercent(q), quantile(q));
+        }
+        result.put("quantiles", quantileValues);
+        result.put("histogram", exact != null ? exact.toMap() : binnedHistogram(bins));
+        return result;
+    }
+
+    private Map<String, Long> binnedHistogram(int bins) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        double width = (max - min) / bins;
+        if (width == 0) {
+            histogram.put("[" + formatEdge(min, 0) + ", " + formatEdge(max, 0) + "]", count);
+            return histogram;
+        }
+        // Enough decimals to tell adjacent edges apart, at least 4
+        int scale = Math.max(4, 3 - (int) Math.floor(Math.log10(width)));
+        long previousRank = 0;
+        for (int b = 0; b < bins; b++) {
+            double low = min + b * width;
+            double high = b == bins - 1 ? max : min + (b + 1) * width;
+            // The last bin is closed so it includes the maximum
+            long rank = b == bins - 1 ? count : sketch.rank(high);
+            histogram.put("[" + formatEdge(low, scale) + ", " + formatEdge(high, scale) + (b == bins - 1 ? "]" : ")"),
+                rank - previousRank);
+            previousRank = rank;
+        }
+        return histogram;
+    }
+
+    /**
+     * Formats rank {@code q} as a percent from its decimal digits (0.57 -> "57", 0.999 -> "99.9"), avoiding
+     * binary rounding such as 0.57 * 100 = 56.99999999999999.
+     */
+    private static String formatPercent(double q) {
+        return BigDecimal.valueOf(q).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Formats a bin edge in plain notation rounded to {@code scale} decimals (252.64999999999998 -> "252.65",
+     * -6.666666666666667E8 -> "-666666666.6667"), or exactly if {@code scale} is 0.
+     */
+    private static String formatEdge(double edge, int scale) {
+        BigDecimal value = BigDecimal.valueOf(edge);
+        if (scale > 0) {
+            value = value.setScale(scale, RoundingMode.HALF_UP);
+        }
+        return value.stripTrailingZeros().toPlainString();
+    }
+
+    private static Stream<int[]> chunks(int length) {
+        List<int[]> ranges = new ArrayList<>();
+        int chunkSize = length < PARALLEL_THRESHOLD
+            ? Math.max(length, 1)
+            : Math.max(PARALLEL_THRESHOLD / 4, length / (Runtime.getRuntime().availableProcessors() * 4));
+        for (int start = 0; start < length; start += chunkSize) {
+            ranges.add(new int[] {start, Math.min(length, start + chunkSize)});
+        }
+        return ranges.size() > 1 ? ranges.parallelStream() : ranges.stream();
+    }
+
+    /**
+     * Per-chunk state: exact histogram until the range overflows, then a sketch; never both.
+     */
+    private static final class Partial {
+
+        private long count;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double sum;
+        private IntHistogram exact;
+        private KllSketch sketch;
+
+        Partial(boolean exactInts) {
+            if (exactInts) {
+                exact = new IntHistogram();
+            } else {
+                sketch = new KllSketch();
+            }
+        }
+
+        void add(int value) {
+            track(value);
+            if (exact != null && exact.add(value)) {
+                return;
+            }
+            toSketch().update(value);
+        }
+
+        void addToSketch(double value) {
+            track(value);
+            sketch.update(value);
+        }
+
+        Partial merge(Partial other) {
+            count += other.count;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            sum += other.sum;
+            if (exact != null && other.exact != null && exact.merge(other.exact)) {
+                return this;
+            }
+            KllSketch merged = toSketch();
+            if (other.exact != null) {
+                other.exact.drainTo(merged);
+            }
+            if (other.sketch != null) {
+                merged.merge(other.sketch);
+            }
+            return this;
+        }
+
+        /**
+         * Switches to sketch mode, moving exact counts into the sketch.
+         */
+        private KllSketch toSketch() {
+            if (sketch == null) {
+                sketch = new KllSketch();
+            }
+            if (exact != null) {
+                exact.drainTo(sketch);
+                exact = null;
+            }
+            return sketch;
+        }
+
+        private void track(double value) {
+            count++;
+            sum += value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+
+        DistributionSummary toSummary() {
+            return new DistributionSummary(count, min, max, sum, sketch == null ? exact : null, sketch);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds duplicate values in a (possibly very large) sequence without holding every value in a HashSet.
+ *
+ * <h3>Two-pass algorithm</h3>
+ * <ol>
+ *     <li><strong>Screening pass:</strong> every value is offered to a {@link BloomFilter}. Values whose
+ *         bits were already set are <em>suspected</em> duplicates and are kept as candidates.</li>
+ *     <li><strong>Confirmation pass:</strong> the source is scanned again, counting exact occurrences of
+ *         the candidates only. Candidates seen at least twice are real duplicates; the rest were
+ *         Bloom false positives.</li>
+ * </ol>
+ *
+ * <p>Memory is the filter (~1.2 bytes per value at 1% false positives) plus the candidate map,
+ * which holds the real duplicates and about {@code falsePositiveRate * n} false positives.
+ * The source must therefore be re-iterable, e.g. a List or a file-backed Iterable.</p>
+ */
+public final class DuplicateDetector {
+
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private DuplicateDetector() {
+    }
+
+    /**
+     * @param values re-iterable source of values; nulls are ignored
+     * @param expectedSize expected number of values, used to size the Bloom filter
+     * @param falsePositiveRate Bloom filter false-positive rate
+     * @return distinct duplicated values, in the order their second occurrence was seen
+     */
+    public static List<String> findDuplicates(Iterable<String> values, long expectedSize, double falsePositiveRate) {
+        BloomFilter filter = new BloomFilter(Math.max(1, expectedSize), falsePositiveRate);
+
+        // Pass 1: screen with the Bloom filter; only suspected duplicates are stored exactly
+        Map<String, int[]> candidates = new HashMap<>();
+        List<String> candidateOrder = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && filter.put(value) && !candidates.containsKey(value)) {
+                candidates.put(value, new int[1]);
+                candidateOrder.add(value);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // Pass 2: exact counts for candidates only
+        for (String value : values) {
+            if (value != null) {
+                int[] count = candidates.get(value);
+                if (count != null) {
+                    count[0]++;
+                }
+            }
+        }
+
+        List<String> duplicates = new ArrayList<>();
+        for (String value : candidateOrder) {
+            if (candidates.get(value)[0] > 1) {
+                duplicates.add(value);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Convenience overload for in-memory lists using {@link #DEFAULT_FALSE_POSITIVE_RATE}.
+     */
+    public static List<String> findDuplicates(List<String> values) {
+        return findDuplicates(values, values.size(), DEFAULT_FALSE_POSITIVE_RATE);
+    }
+}
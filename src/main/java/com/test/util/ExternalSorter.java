@@ -0,0 +1,325 @@
+package com.test.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Sort (optionally deduplicating) for inputs larger than the heap.
+ *
+ * <h3>Algorithm</h3>
+ * <ol>
+ *     <li><strong>Run generation:</strong> up to {@code runSize} records are buffered in a plain
+ *         array, sorted with the stable {@link Arrays#parallelSort(Object[], int, int, Comparator)},
+ *         and spilled to a temp file as one sorted run through a {@link Codec}.</li>
+ *     <li><strong>K-way merge:</strong> runs are merged through a PriorityQueue of run cursors; ties go
+ *         to the earlier run, so the output is stable. When there are more than {@link #MAX_FAN_IN}
+ *         runs, intermediate merge passes over adjacent groups reduce them first so the number of
+ *         open files stays bounded.</li>
+ * </ol>
+ *
+ * <p>Heap usage is bounded by {@code runSize} records plus one buffered reader per merged run,
+ * independent of the total input size; the run buffer grows on demand, so {@code runSize} is only an
+ * upper bound. If the whole input fits in one run nothing touches disk. Results are pushed to a
+ * {@link Consumer} as they are produced, so callers can stream them to a file or socket without
+ * collecting them.</p>
+ *
+ * @param <T> record type
+ */
+public final class ExternalSorter<T> {
+
+    public static final int DEFAULT_RUN_SIZE = 100_000;
+    public static final int MAX_FAN_IN = 128;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER = 1 << 16;
+
+    private final Comparator<? super T> order;
+    private final Codec<T> codec;
+    private final int runSize;
+    private final Path tempDir;
+
+    public ExternalSorter(Comparator<? super T> order, Codec<T> codec, int runSize) {
+        this(order, codec, runSize, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param order sort order; records comparing equal are duplicates for {@link #sortDistinct}
+     * @param codec serializes records into spilled runs
+     * @param runSize maximum number of records held in memory per sorted run
+     * @param tempDir directory for spilled run files
+     */
+    public ExternalSorter(Comparator<? super T> order, Codec<T> codec, int runSize, Path tempDir) {
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("runSize must be positive: " + runSize);
+        }
+        this.order = order;
+        this.codec = codec;
+        this.runSize = runSize;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * @return a sorter for Strings in natural order, spilled as length-prefixed UTF-8
+     */
+    public static ExternalSorter<String> forStrings(int runSize) {
+        return new ExternalSorter<>(Comparator.naturalOrder(), Utf8Codec.INSTANCE, runSize);
+    }
+
+    /**
+     * Sorts the input, removes duplicates and emits each distinct value once.
+     *
+     * @param input source records; must not contain nulls
+     * @param sink receives distinct values in ascending order
+     * @return number of distinct values emitted
+     */
+    public long sortDistinct(Iterator<T> input, Consumer<? super T> sink) throws IOException {
+        long[] emitted = new long[1];
+        run(input, true, value -> {
+            sink.accept(value);
+            emitted[0]++;
+        });
+        return emitted[0];
+    }
+
+    /**
+     * Sorts the input and emits every record; records comparing equal keep their input order.
+     *
+     * @param input source records
+     * @param sink receives the records in sorted order
+     * @return number of spilled runs (0 if the input was sorted in memory)
+     */
+    public int sort(Iterator<T> input, Consumer<? super T> sink) throws IOException {
+        return run(input, false, sink);
+    }
+
+    private int run(Iterator<T> input, boolean distinct, Consumer<? super T> sink) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        T[] buffer = (T[]) new Object[Math.min(runSize, INITIAL_BUFFER)];
+        try {
+            int size = 0;
+            while (input.hasNext()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(runSize, 2L * size));
+                }
+                buffer[size++] = input.next();
+                if (size == runSize) {
+                    runs.add(spill(buffer, size, distinct));
+                    Arrays.fill(buffer, null);
+                    size = 0;
+                }
+            }
+
+            if (runs.isEmpty()) {
+                // Everything fit in memory: sort once, emit without touching disk
+                Arrays.parallelSort(buffer, 0, size, order);
+                emit(buffer, size, distinct, sink);
+                return 0;
+            }
+            if (size > 0) {
+                runs.add(spill(buffer, size, distinct));
+            }
+            buffer = null;
+
+            int spilled = runs.size();
+            while (runs.size() > MAX_FAN_IN) {
+                runs = mergePass(runs, distinct);
+            }
+            merge(runs, distinct, sink);
+            return spilled;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private Path spill(T[] buffer, int size, boolean distinct) throws IOException {
+        Arrays.parallelSort(buffer, 0, size, order);
+        Path run = Files.createTempFile(tempDir, "sort-run-", ".bin");
+        try (RunWriter<T> writer = new RunWriter<>(run, codec)) {
+            emit(buffer, size, distinct, writer::writeUnchecked);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private List<Path> mergePass(List<Path> runs, boolean distinct) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        boolean complete = false;
+        try {
+            for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                List<Path> group = runs.subList(from, Math.min(runs.size(), from + MAX_FAN_IN));
+                Path out = Files.createTempFile(tempDir, "sort-run-", ".bin");
+                merged.add(out);
+                try (RunWriter<T> writer = new RunWriter<>(out, codec)) {
+                    merge(group, distinct, writer::writeUnchecked);
+                }
+            }
+            complete = true;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            if (!complete) {
+                // The caller never sees these runs, so it cannot clean them up
+                for (Path run : merged) {
+                    Files.deleteIfExists(run);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private void merge(List<Path> runs, boolean distinct, Consumer<? super T> sink) throws IOException {
+        PriorityQueue<RunReader<T>> queue = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int c = order.compare(a.current, b.current);
+            return c != 0 ? c : Integer.compare(a.position, b.position);
+        });
+        List<RunReader<T>> readers = new ArrayList<>(runs.size());
+        try {
+            for (Path run : runs) {
+                RunReader<T> reader = new RunReader<>(run, codec, readers.size());
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            T last = null;
+            boolean first = true;
+            while (!queue.isEmpty()) {
+                RunReader<T> reader = queue.poll();
+                T value = reader.current;
+                if (!distinct || first || order.compare(value, last) != 0) {
+                    sink.accept(value);
+                    last = value;
+                    first = false;
+                }
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private void emit(T[] sorted, int size, boolean distinct, Consumer<? super T> sink) {
+        for (int i = 0; i < size; i++) {
+            if (!distinct || i == 0 || order.compare(sorted[i], sorted[i - 1]) != 0) {
+                sink.accept(sorted[i]);
+            }
+        }
+    }
+
+    /**
+     * Binary serialization of one record inside a spilled run.
+     *
+     * @param <T> record type
+     */
+    public interface Codec<T> {
+
+        void write(T record, DataOutput out) throws IOException;
+
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Length-prefixed UTF-8, without {@link DataOutput#writeUTF(String)}'s 64 KB limit.
+     */
+    private static final class Utf8Codec implements Codec<String> {
+        private static final Utf8Codec INSTANCE = new Utf8Codec();
+
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Records each preceded by a {@code true} marker, terminated by {@code false}.
+     */
+    private static final class RunWriter<T> implements Closeable {
+        private final DataOutputStream out;
+        private final Codec<T> codec;
+
+        RunWriter(Path path, Codec<T> codec) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+            this.codec = codec;
+        }
+
+        void writeUnchecked(T value) {
+            try {
+                out.writeBoolean(true);
+                codec.write(value, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.writeBoolean(false);
+            out.close();
+        }
+    }
+
+    private static final class RunReader<T> implements Closeable {
+        private final DataInputStream in;
+        private final Codec<T> codec;
+        private final int position;
+        private T current;
+
+        RunReader(Path path, Codec<T> codec, int position) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+            this.codec = codec;
+            this.position = position;
+        }
+
+        boolean advance() throws IOException {
+            if (!in.readBoolean()) {
+                current = null;
+                return false;
+            }
+            current = codec.read(in);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.test.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Dedicated fork/join pool for tasks that read files (mapped page faults, channel reads).
+ *
+ * <p>Those tasks block on disk, so they are kept off {@link ForkJoinPool#commonPool()}, which parallel
+ * streams and {@code Arrays.parallelSort} share across the whole application. Created on first use;
+ * workers are daemon threads named {@code file-scan-N}.</p>
+ */
+final class FileScanPool {
+
+    private FileScanPool() {
+    }
+
+    static ForkJoinPool get() {
+        return Holder.POOL;
+    }
+
+    private static final class Holder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("file-scan-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false);
+    }
+}
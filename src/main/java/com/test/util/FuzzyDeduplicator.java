@@ -0,0 +1,249 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+/**
+ * Fuzzy deduplication of names ("jon smith" ~ "john smith") without all-pairs comparison.
+ *
+ * <h3>Blocking</h3>
+ * Every name gets two cheap blocking keys; only names sharing a key are ever compared:
+ * <ul>
+ *     <li><strong>Phonetic:</strong> Soundex code of every token ("jon smith" and "john smith" -> J500 S530)</li>
+ *     <li><strong>Prefix:</strong> first {@value #PREFIX_LENGTH} characters, catching typos later in the name
+ *         that change its sound</li>
+ * </ul>
+ * Blocks larger than {@value #MAX_BLOCK_SIZE} (e.g. very common prefixes) fall back to a sorted
+ * neighbourhood: each name is compared only with the next {@value #WINDOW} names of the block.
+ *
+ * <h3>Similarity Join</h3>
+ * Blocks are processed in parallel. Candidate pairs are confirmed with Jaro-Winkler similarity,
+ * after a length-ratio pre-check that rejects pairs which cannot reach the threshold. Confirmed
+ * pairs are merged with union-find, so matches are transitive across blocks.
+ */
+public final class FuzzyDeduplicator {
+
+    public static final double DEFAULT_THRESHOLD = 0.9;
+
+    static final int PREFIX_LENGTH = 3;
+    static final int MAX_BLOCK_SIZE = 1_000;
+    static final int WINDOW = 50;
+
+    // Soundex digit per letter:            a b c d e f g h i j k l m n o p q r s t u v w x y z
+    private static final String SOUNDEX_CODES = "01230120022455012623010202";
+
+    private FuzzyDeduplicator() {
+    }
+
+    /**
+     * Groups similar names into clusters.
+     *
+     * @param names distinct, already normalized names in ascending order
+     * @param threshold minimum Jaro-Winkler similarity (0..1) for two names to be merged
+     * @return clusters keyed by representative (the smallest member), each listing its members in order;
+     *         names with no near-duplicate form singleton clusters
+     */
+    public static Map<String, List<String>> cluster(List<String> names, double threshold) {
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("threshold must be in [0, 1]: " + threshold);
+        }
+        int n = names.size();
+
+        // Blocking: key -> indexes of names sharing it (indexes are ascending, so blocks stay sorted)
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            String name = names.get(i);
+            blocks.computeIfAbsent("S|" + soundexTokens(name), k -> new ArrayList<>()).add(i);
+            blocks.computeIfAbsent("P|" + name.substring(0, Math.min(PREFIX_LENGTH, name.length())),
+                k -> new ArrayList<>()).add(i);
+        }
+
+        // Similarity join inside each block, in parallel; pairs are packed as (i << 32 | j)
+        long[] pairs = blocks.values().parallelStream()
+            .filter(block -> block.size() > 1)
+            .flatMapToLong(block -> matchBlock(names, block, threshold))
+            .toArray();
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        for (long pair : pairs) {
+            union(parent, (int) (pair >>> 32), (int) pair);
+        }
+
+        // Roots are the smallest index of each set, i.e. the smallest name, because union links to the lower root
+        Map<String, List<String>> clusters = new TreeMap<>();
+        Map<Integer, List<String>> byRoot = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            byRoot.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(names.get(i));
+        }
+        byRoot.forEach((root, members) -> clusters.put(names.get(root), members));
+        return clusters;
+    }
+
+    private static LongStream matchBlock(List<String> names, List<Integer> block, double threshold) {
+        LongStream.Builder matches = LongStream.builder();
+        int size = block.size();
+        int window = size > MAX_BLOCK_SIZE ? WINDOW : size;
+        for (int a = 0; a < size; a++) {
+            String left = names.get(block.get(a));
+            for (int b = a + 1; b < size && b <= a + window; b++) {
+                String right = names.get(block.get(b));
+                if (mayReach(left, right, threshold) && jaroWinkler(left, right) >= threshold) {
+                    matches.add(((long) block.get(a) << 32) | block.get(b));
+                }
+            }
+        }
+        return matches.build();
+    }
+
+    /**
+     * Jaro similarity is at most (2 + shorter/longer) / 3, and the Winkler prefix boost at most
+     * 0.4 * (1 - jaro); pairs whose upper bound is below the threshold are skipped.
+     */
+    private static boolean mayReach(String a, String b, double threshold) {
+        int shorter = Math.min(a.length(), b.length());
+        int longer = Math.max(a.length(), b.length());
+        if (longer == 0) {
+            return true;
+        }
+        double jaroBound = (2.0 + (double) shorter / longer) / 3.0;
+        return jaroBound + 0.4 * (1 - jaroBound) >= threshold;
+    }
+
+    /**
+     * Jaro-Winkler similarity in [0, 1]; 1 means identical.
+     */
+    public static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        int lenA = a.length();
+        int lenB = b.length();
+        if (lenA == 0 || lenB == 0) {
+            return 0.0;
+        }
+        int range = Math.max(0, Math.max(lenA, lenB) / 2 - 1);
+        boolean[] matchedA = new boolean[lenA];
+        boolean[] matchedB = new boolean[lenB];
+
+        int matches = 0;
+        for (int i = 0; i < lenA; i++) {
+            int from = Math.max(0, i - range);
+            int to = Math.min(lenB - 1, i + range);
+            for (int j = from; j <= to; j++) {
+                if (!matchedB[j] && a.charAt(i) == b.charAt(j)) {
+                    matchedA[i] = true;
+                    matchedB[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < lenA; i++) {
+            if (matchedA[i]) {
+                while (!matchedB[j]) {
+                    j++;
+                }
+                if (a.charAt(i) != b.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+
+        double m = matches;
+        double jaro = (m / lenA + m / lenB + (m - transpositions / 2.0) / m) / 3.0;
+
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(lenA, lenB));
+        while (prefix < maxPrefix && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    /**
+     * American Soundex of each whitespace-separated token, joined by spaces.
+     */
+    static String soundexTokens(String name) {
+        StringBuilder key = new StringBuilder();
+        int i = 0;
+        int length = name.length();
+        while (i < length) {
+            while (i < length && name.charAt(i) == ' ') {
+                i++;
+            }
+            int start = i;
+            while (i < length && name.charAt(i) != ' ') {
+                i++;
+            }
+            if (i > start) {
+                if (key.length() > 0) {
+                    key.append(' ');
+                }
+                appendSoundex(name, start, i, key);
+            }
+        }
+        return key.toString();
+    }
+
+    private static void appendSoundex(String token, int start, int end, StringBuilder out) {
+        int written = 0;
+        char last = 0;
+        for (int i = start; i < end && written < 4; i++) {
+            char c = Character.toLowerCase(token.charAt(i));
+            if (c < 'a' || c > 'z') {
+                continue;                                  // digits, punctuation, non-Latin letters
+            }
+            char code = SOUNDEX_CODES.charAt(c - 'a');
+            if (written == 0) {
+                out.append(Character.toUpperCase(c));
+                written++;
+            } else if (code != '0' && code != last) {
+                out.append(code);
+                written++;
+            }
+            if (c != 'h' && c != 'w') {
+                last = code;                               // h and w do not separate equal codes
+            }
+        }
+        if (written == 0) {
+            // Token without Latin letters: use it verbatim so it still blocks with itself
+            out.append(token, start, end);
+            return;
+        }
+        for (; written < 4; written++) {
+            out.append('0');
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parent[rootA] = rootB;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.util;
+
+/**
+ * 64-bit string hashing shared by the probabilistic structures in this package.
+ *
+ * <p>FNV-1a over UTF-16 chars followed by a murmur-style finalizer, so short and similar keys
+ * (IDs, words) still spread across all 64 bits. Callers derive k independent indexes with double
+ * hashing, {@code h1 + i * h2}: from the two 32-bit halves when the table is small, or from the hash
+ * and a {@link #mix64} of it when indexes may exceed 2^32.</p>
+ */
+final class Hashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    static long hash64(CharSequence value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return finish(hash);
+    }
+
+    static long hash64(char[] buffer, int length) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash ^= buffer[i];
+            hash *= FNV_PRIME;
+        }
+        return finish(hash);
+    }
+
+    /**
+     * Scrambles a 64-bit value; {@code mix64(0) == 0}, so offset inputs that may be zero.
+     */
+    static long mix64(long value) {
+        return finish(value);
+    }
+
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,159 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exact counts for integers spanning a small range, in a {@code long[]} indexed by {@code value - offset}.
+ *
+ * <p>The covered range grows (doubling) as values arrive, so no min/max pre-pass is needed. Once the
+ * range would exceed {@code maxRange}, {@link #add(int)} returns false and the caller switches to a
+ * sketch; {@link #drainTo(KllSketch)} hands over the counts gathered so far.</p>
+ */
+public final class IntHistogram {
+
+    public static final int DEFAULT_MAX_RANGE = 1 << 16;
+
+    private final int maxRange;
+    private long[] counts = new long[0];
+    private long offset;
+    private long count;
+
+    public IntHistogram() {
+        this(DEFAULT_MAX_RANGE);
+    }
+
+    public IntHistogram(int maxRange) {
+        this.maxRange = maxRange;
+    }
+
+    /**
+     * Counts {@code value}.
+     *
+     * @return false, without counting, if covering {@code value} would exceed the maximum range
+     */
+    public boolean add(int value) {
+        long index = value - offset;
+        if (index < 0 || index >= counts.length) {
+            if (!cover(value)) {
+                return false;
+            }
+            index = value - offset;
+        }
+        counts[(int) index]++;
+        count++;
+        return true;
+    }
+
+    /**
+     * Adds the counts of {@code other}.
+     *
+     * @return false, leaving this histogram unchanged, if the combined range would exceed the maximum
+     */
+    public boolean merge(IntHistogram other) {
+        if (other.count == 0) {
+            return true;
+        }
+        int first = firstNonZero(other.counts);
+        int last = lastNonZero(other.counts);
+        if (!cover(other.offset + first) || !cover(other.offset + last)) {
+            return false;
+        }
+        for (int i = first; i <= last; i++) {
+            counts[(int) (other.offset + i - offset)] += other.counts[i];
+        }
+        count += other.count;
+        return true;
+    }
+
+    /**
+     * Moves all counts into {@code sketch} as weighted items and clears this histogram.
+     */
+    public void drainTo(KllSketch sketch) {
+        for (int i = 0; i < counts.length; i++) {
+            sketch.update(offset + i, counts[i]);
+        }
+        counts = new long[0];
+        count = 0;
+    }
+
+    /**
+     * @return number of values counted
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the exact nearest-rank quantile: smallest value with at least {@code ceil(q * count)} values
+     *         less than or equal to it
+     */
+    public long quantile(double q) {
+        long target = Math.max(1, (long) Math.ceil(q * count));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return offset + i;
+            }
+        }
+        return offset + lastNonZero(counts);
+    }
+
+    /**
+     * @return value -> count for every value seen, ascending
+     */
+    public Map<Long, Long> toMap() {
+        Map<Long, Long> map = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(offset + i, counts[i]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Grows the table so it covers {@code value}, keeping existing counts.
+     */
+    private boolean cover(long value) {
+        if (counts.length == 0) {
+            offset = value;
+            counts = new long[16];
+            return true;
+        }
+        long low = Math.min(offset, value);
+        long high = Math.max(offset + counts.length - 1, value);
+        if (high - low + 1 > maxRange) {
+            return false;
+        }
+        if (low == offset && high < offset + counts.length) {
+            return true;
+        }
+        // Double the table in the direction of growth, capped at the maximum range
+        long length = Math.min(maxRange, Math.max(high - low + 1, counts.length * 2L));
+        long newOffset = value < offset ? Math.max(high - length + 1, (long) Integer.MIN_VALUE) : low;
+        long[] grown = new long[(int) length];
+        System.arraycopy(counts, 0, grown, (int) (offset - newOffset), counts.length);
+        counts = grown;
+        offset = newOffset;
+        return true;
+    }
+
+    private static int firstNonZero(long[] values) {
+        int i = 0;
+        while (i < values.length - 1 && values[i] == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int lastNonZero(long[] values) {
+        int i = values.length - 1;
+        while (i > 0 && values[i] == 0) {
+            i--;
+        }
+        return i;
+    }
+}
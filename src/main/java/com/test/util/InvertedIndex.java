@@ -0,0 +1,152 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compact in-memory inverted index: term -> ascending list of document numbers.
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *     <li><strong>Term dictionary:</strong> a {@link StringDictionary} assigns each term a dense id; postings
+ *         are kept in an array indexed by term id</li>
+ *     <li><strong>Postings:</strong> documents are numbered in ingest order, so every postings list is
+ *         append-only and ascending. It is stored as gaps between consecutive document numbers in
+ *         variable-length bytes (7 bits per byte) - typically 1 byte per posting for common terms</li>
+ * </ul>
+ *
+ * <h3>Queries</h3>
+ * AND intersects lists starting from the shortest (the result can only shrink); OR performs a
+ * linear merge. Both work on decoded int[] lists and never touch the original texts.
+ *
+ * <p>Tokenization is {@link WordTokenizer}'s, so terms match /word-frequency. Not thread-safe.</p>
+ */
+public final class InvertedIndex {
+
+    private final StringDictionary termIds = new StringDictionary(1 << 10);
+    private PostingList[] postings = new PostingList[termIds.capacity()];
+    private int documentCount;
+
+    /**
+     * Indexes one document and returns its document number.
+     */
+    public int add(CharSequence text) {
+        int doc = documentCount++;
+        WordCountTable terms = new WordCountTable();
+        WordTokenizer.tokenize(text, terms);
+        terms.forEach((term, count) -> {
+            int termId = termIds.intern(term, term.hashCode());
+            if (termId == postings.length) {
+                postings = Arrays.copyOf(postings, termIds.capacity());
+            }
+            if (postings[termId] == null) {
+                postings[termId] = new PostingList();
+            }
+            postings[termId].append(doc);
+        });
+        return doc;
+    }
+
+    /**
+     * @return ascending document numbers containing {@code term} (already lowercase)
+     */
+    public int[] documents(String term) {
+        int termId = termIds.find(term, term.hashCode());
+        return termId < 0 ? new int[0] : postings[termId].decode();
+    }
+
+    /**
+     * @return documents containing every term
+     */
+    public int[] and(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return new int[0];
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (String term : terms) {
+            int termId = termIds.find(term, term.hashCode());
+            if (termId < 0) {
+                return new int[0];                             // a missing term empties the intersection
+            }
+            lists.add(postings[termId]);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] result = lists.get(0).decode();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).decode());
+        }
+        return result;
+    }
+
+    /**
+     * @return documents containing at least one term
+     */
+    public int[] or(Collection<String> terms) {
+        int[] result = new int[0];
+        for (String term : terms) {
+            result = union(result, documents(term));
+        }
+        return result;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public int getTermCount() {
+        return termIds.size();
+    }
+
+    /**
+     * @return total bytes used by encoded postings
+     */
+    public long postingsBytes() {
+        long bytes = 0;
+        for (int termId = 0; termId < termIds.size(); termId++) {
+            bytes += postings[termId].byteLength();
+        }
+        return bytes;
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                out[n++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,192 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Item -> order index built from order item lists at ingest time.
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *     <li><strong>Item dictionary:</strong> a {@link StringDictionary} maps item name -> dense item id; every
+ *         other structure uses the id</li>
+ *     <li><strong>Postings:</strong> per item, the ascending order numbers containing it, delta + varint
+ *         encoded like {@link InvertedIndex} (orders are numbered in ingest order, so lists are append-only)</li>
+ *     <li><strong>Order items:</strong> per order, its distinct item ids in one flat int[] with offsets, used
+ *         for co-occurrence without going back to the orders</li>
+ * </ul>
+ *
+ * <h3>Queries</h3>
+ * "Orders containing X" decodes one postings list; AND/OR combine lists like {@link InvertedIndex}.
+ * Per-item order counts are the list sizes, so distinct counts and most-ordered items never decode.
+ * Items co-occurring with X are counted from the item ids of X's orders only. Top lists are selected with
+ * a {@link BoundedHeap} over per-id counts.
+ *
+ * <p>An item appearing several times in one order is indexed once for it. Not thread-safe.</p>
+ */
+public final class ItemIndex {
+
+    private final StringDictionary items = new StringDictionary(1 << 10);
+    private PostingList[] postings = new PostingList[items.capacity()];
+    private int[] orderItems = new int[64];
+    private int[] orderStarts = new int[16];
+    private int orderCount;
+
+    /**
+     * Indexes one order's items and returns its order number.
+     *
+     * @param orderItems item names; null or empty for an order without items. Null names are skipped
+     */
+    public int add(Collection<String> orderItems) {
+        int order = orderCount++;
+        if (orderStarts.length < orderCount + 1) {
+            orderStarts = Arrays.copyOf(orderStarts, orderStarts.length * 2);
+        }
+        int end = orderStarts[order];
+        if (orderItems != null) {
+            for (String item : orderItems) {
+                if (item == null) {
+                    continue;
+                }
+                int itemId = items.intern(item, item.hashCode());
+                if (itemId == postings.length) {
+                    postings = Arrays.copyOf(postings, items.capacity());
+                }
+                if (postings[itemId] == null) {
+                    postings[itemId] = new PostingList();
+                }
+                PostingList list = postings[itemId];
+                if (list.lastDoc() == order) {
+                    continue;                                  // repeated item within this order
+                }
+                list.append(order);
+                if (end == this.orderItems.length) {
+                    this.orderItems = Arrays.copyOf(this.orderItems, end * 2);
+                }
+                this.orderItems[end++] = itemId;
+            }
+        }
+        orderStarts[order + 1] = end;
+        return order;
+    }
+
+    /**
+     * @return ascending order numbers containing {@code item}
+     */
+    public int[] orders(String item) {
+        int itemId = items.find(item, item.hashCode());
+        return itemId < 0 ? new int[0] : postings[itemId].decode();
+    }
+
+    /**
+     * @return orders containing every item
+     */
+    public int[] ordersWithAll(Collection<String> query) {
+        if (query.isEmpty()) {
+            return new int[0];
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (String item : query) {
+            int itemId = items.find(item, item.hashCode());
+            if (itemId < 0) {
+                return new int[0];
+            }
+            lists.add(postings[itemId]);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] result = lists.get(0).decode();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = InvertedIndex.intersect(result, lists.get(i).decode());
+        }
+        return result;
+    }
+
+    /**
+     * @return orders containing at least one item
+     */
+    public int[] ordersWithAny(Collection<String> query) {
+        int[] result = new int[0];
+        for (String item : query) {
+            result = InvertedIndex.union(result, orders(item));
+        }
+        return result;
+    }
+
+    /**
+     * @return number of orders containing {@code item}, without decoding its postings
+     */
+    public int orderCount(String item) {
+        int itemId = items.find(item, item.hashCode());
+        return itemId < 0 ? 0 : postings[itemId].size();
+    }
+
+    /**
+     * @return item -> number of orders containing it, for the {@code limit} most-ordered items (ties by name)
+     */
+    public Map<String, Integer> topItems(int limit) {
+        int[] counts = new int[items.size()];
+        for (int id = 0; id < counts.length; id++) {
+            counts[id] = postings[id].size();
+        }
+        return top(counts, limit);
+    }
+
+    /**
+     * @return item -> number of orders containing both it and {@code item}, for the {@code limit} most
+     *         frequent companions (ties by name); {@code item} itself is excluded
+     */
+    public Map<String, Integer> coOccurring(String item, int limit) {
+        int itemId = items.find(item, item.hashCode());
+        if (itemId < 0) {
+            return new LinkedHashMap<>();
+        }
+        int[] counts = new int[items.size()];
+        for (int order : postings[itemId].decode()) {
+            for (int i = orderStarts[order]; i < orderStarts[order + 1]; i++) {
+                counts[orderItems[i]]++;
+            }
+        }
+        counts[itemId] = 0;
+        return top(counts, limit);
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    /**
+     * @return total bytes used by encoded postings
+     */
+    public long postingsBytes() {
+        long bytes = 0;
+        for (int id = 0; id < items.size(); id++) {
+            bytes += postings[id].byteLength();
+        }
+        return bytes;
+    }
+
+    /**
+     * Selects the {@code limit} ids with the largest positive counts (ties by name) with a {@link BoundedHeap}
+     * instead of sorting every item.
+     */
+    private Map<String, Integer> top(int[] counts, int limit) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        BoundedHeap.Ranking ranking = (a, b) -> counts[a] != counts[b]
+            ? counts[a] > counts[b]
+            : items.key(a).compareTo(items.key(b)) < 0;
+        for (int id : BoundedHeap.top(counts.length, limit, id -> counts[id] > 0, ranking)) {
+            result.put(items.key(id), counts[id]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,258 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Mergeable quantile sketch (KLL: Karnin, Lang, Liberty) over doubles.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Levels:</strong> an item stored at level h stands for 2^h input values. New values go to
+ *         level 0</li>
+ *     <li><strong>Compaction:</strong> when the sketch is full, the lowest over-capacity level is sorted and
+ *         every other item (random offset) is promoted to the level above, halving it while keeping ranks
+ *         unbiased. Capacities shrink geometrically (factor 2/3) towards the lower levels, so total size
+ *         stays O(k) however many values are added</li>
+ *     <li><strong>Merging:</strong> levels are concatenated and compacted again, so per-chunk sketches built in
+ *         parallel merge into one with the same accuracy guarantee</li>
+ * </ul>
+ *
+ * <p>With the default {@code k = 200} the rank error is typically below 1% (e.g. a reported p99 lies
+ * between the true p98 and p100). Not thread-safe: build one sketch per thread and merge.</p>
+ */
+public final class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final List<double[]> levels = new ArrayList<>();
+    private final List<Integer> sizes = new ArrayList<>();
+    private final SplittableRandom random;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private int retained;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k accuracy parameter; error shrinks roughly as 1/k, memory grows linearly with k
+     */
+    public KllSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8");
+        }
+        this.k = k;
+        this.random = new SplittableRandom(k);
+        addLevel();
+    }
+
+    /**
+     * Adds one value.
+     */
+    public void update(double value) {
+        append(0, value);
+        count++;
+        updateMinMax(value, value);
+        compressIfFull();
+    }
+
+    /**
+     * Adds {@code weight} copies of {@code value} in O(log weight): bit j of the weight becomes one item
+     * at level j.
+     */
+    public void update(double value, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        for (int level = 0; weight != 0; level++, weight >>>= 1) {
+            if ((weight & 1) != 0) {
+                while (levels.size() <= level) {
+                    addLevel();
+                }
+                append(level, value);
+                count += 1L << level;
+            }
+        }
+        updateMinMax(value, value);
+        compressIfFull();
+    }
+
+    /**
+     * Adds all values summarized by {@code other}.
+     */
+    public KllSketch merge(KllSketch other) {
+        if (other.count == 0) {
+            return this;
+        }
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int level = 0; level < other.levels.size(); level++) {
+            double[] items = other.levels.get(level);
+            for (int i = 0, size = other.sizes.get(level); i < size; i++) {
+                append(level, items[i]);
+            }
+        }
+        count += other.count;
+        updateMinMax(other.min, other.max);
+        compressIfFull();
+        return this;
+    }
+
+    /**
+     * @return number of values added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return smallest value added (exact), NaN if empty
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return largest value added (exact), NaN if empty
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return approximate value at rank {@code q} (0..1): the smallest retained value whose cumulative
+     *         weight reaches {@code q * count}; q = 0 and q = 1 return the exact min and max
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        double[][] weighted = sortedItems();
+        double target = q * count;
+        long cumulative = 0;
+        for (double[] item : weighted) {
+            cumulative += (long) item[1];
+            if (cumulative >= target) {
+                return item[0];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return approximate number of values less than {@code value}
+     */
+    public long rank(double value) {
+        long rank = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            for (int i = 0, size = sizes.get(level); i < size; i++) {
+                if (items[i] < value) {
+                    rank += 1L << level;
+                }
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * @return number of items held, the sketch's memory footprint in doubles
+     */
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    private double[][] sortedItems() {
+        double[][] weighted = new double[retained][];
+        int n = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            for (int i = 0, size = sizes.get(level); i < size; i++) {
+                weighted[n++] = new double[] {items[i], 1L << level};
+            }
+        }
+        Arrays.sort(weighted, (a, b) -> Double.compare(a[0], b[0]));
+        return weighted;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            total += capacity(level);
+        }
+        return total;
+    }
+
+    private void compressIfFull() {
+        while (retained >= totalCapacity()) {
+            compressOneLevel();
+        }
+    }
+
+    private void compressOneLevel() {
+        int level = 0;
+        while (sizes.get(level) < capacity(level)) {
+            level++;
+        }
+        if (level + 1 == levels.size()) {
+            addLevel();
+        }
+        double[] items = levels.get(level);
+        int size = sizes.get(level);
+        Arrays.sort(items, 0, size);
+        // An odd item stays behind so the promoted pairs are complete
+        int kept = size % 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = kept + offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        retained -= size - kept;
+        sizes.set(level, kept);
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels.get(level);
+        int size = sizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(8, size * 2));
+            levels.set(level, items);
+        }
+        items[size] = value;
+        sizes.set(level, size + 1);
+        retained++;
+    }
+
+    private void addLevel() {
+        levels.add(new double[8]);
+        sizes.add(0);
+    }
+
+    private void updateMinMax(double low, double high) {
+        if (Double.isNaN(min) || low < min) {
+            min = low;
+        }
+        if (Double.isNaN(max) || high > max) {
+            max = high;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.test.util;
+
+/**
+ * Palindrome analytics in O(n) time with Manacher's algorithm.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Radii:</strong> {@code odd[i]} is the number of odd palindromes centred on i and
+ *         {@code even[i]} the number of even palindromes centred between i - 1 and i</li>
+ *     <li><strong>Mirror reuse:</strong> inside the right-most palindrome found so far, a centre starts from
+ *         the radius of its mirror image, so every char is compared a constant number of times overall</li>
+ *     <li><strong>Counting:</strong> each radius is also the number of palindromic substrings with that
+ *         centre, so the total count is the sum of both arrays</li>
+ * </ul>
+ *
+ * <p>Only the two {@code int[n]} radius arrays are allocated; the input is read in place. Substrings are
+ * counted by position, so "aaa" has six palindromic substrings ("a" three times, "aa" twice, "aaa").
+ * Chars are compared as UTF-16 units.</p>
+ */
+public final class Manacher {
+
+    private final int longestStart;
+    private final int longestLength;
+    private final long count;
+
+    private Manacher(int longestStart, int longestLength, long count) {
+        this.longestStart = longestStart;
+        this.longestLength = longestLength;
+        this.count = count;
+    }
+
+    /**
+     * Analyzes every palindromic substring of {@code text}.
+     */
+    public static Manacher analyze(CharSequence text) {
+        int n = text.length();
+        int[] odd = new int[n];
+        int[] even = new int[n];
+        long count = 0;
+        int bestStart = 0;
+        int bestLength = 0;
+
+        // Odd lengths: [left, right] is the right-most palindrome seen so far
+        for (int i = 0, left = 0, right = -1; i < n; i++) {
+            int k = i > right ? 1 : Math.min(odd[left + right - i], right - i + 1);
+            while (i - k >= 0 && i + k < n && text.charAt(i - k) == text.charAt(i + k)) {
+                k++;
+            }
+            odd[i] = k;
+            count += k;
+            if (2 * k - 1 > bestLength) {
+                bestLength = 2 * k - 1;
+                bestStart = i - k + 1;
+            }
+            if (i + k - 1 > right) {
+                left = i - k + 1;
+                right = i + k - 1;
+            }
+        }
+
+        // Even lengths, centred between i - 1 and i
+        for (int i = 0, left = 0, right = -1; i < n; i++) {
+            int k = i > right ? 0 : Math.min(even[left + right - i + 1], right - i + 1);
+            while (i - k - 1 >= 0 && i + k < n && text.charAt(i - k - 1) == text.charAt(i + k)) {
+                k++;
+            }
+            even[i] = k;
+            count += k;
+            if (2 * k > bestLength) {
+                bestLength = 2 * k;
+                bestStart = i - k;
+            }
+            if (i + k - 1 > right) {
+                left = i - k;
+                right = i + k - 1;
+            }
+        }
+        return new Manacher(bestStart, bestLength, count);
+    }
+
+    /**
+     * @return start index of the longest palindromic substring (the left-most one on ties)
+     */
+    public int getLongestStart() {
+        return longestStart;
+    }
+
+    /**
+     * @return length of the longest palindromic substring, 0 for empty input
+     */
+    public int getLongestLength() {
+        return longestLength;
+    }
+
+    /**
+     * @return number of palindromic substrings, counted by position
+     */
+    public long getCount() {
+        return count;
+    }
+}
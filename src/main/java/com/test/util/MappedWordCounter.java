@@ -0,0 +1,190 @@
+package com.test.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel word counting over a memory-mapped local text file.
+ *
+ * <h3>How it works</h3>
+ * <ol>
+ *     <li><strong>Chunking:</strong> the file is cut into chunks of about {@code chunkSize} bytes; each cut is
+ *         moved forward past the current word so no token is split between chunks</li>
+ *     <li><strong>Counting:</strong> a fork/join task maps each chunk read-only and counts it into its own
+ *         {@link WordCountTable} - no shared state, no locking</li>
+ *     <li><strong>Merging:</strong> partial tables are merged pairwise as the tasks join</li>
+ * </ol>
+ *
+ * <p>Tokenization matches {@link WordTokenizer}: words are runs of {@code [A-Za-z0-9_]}, lowercased.
+ * The file is scanned as bytes without decoding: it is expected to be UTF-8 (or any ASCII-compatible
+ * encoding), where every byte of a multi-byte character is >= 0x80 and therefore a separator, exactly
+ * like the decoded non-ASCII character would be.</p>
+ */
+public final class MappedWordCounter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Counts on the dedicated {@link FileScanPool}, so blocking file access never occupies
+     * common-pool workers used by parallel streams.
+     */
+    public MappedWordCounter() {
+        this(DEFAULT_CHUNK_SIZE, FileScanPool.get());
+    }
+
+    /**
+     * @param chunkSize target bytes per chunk; chunks are also the unit of mapping, so must stay below 2 GB
+     * @param pool pool running the per-chunk tasks
+     */
+    public MappedWordCounter(int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Counts every word in the file.
+     */
+    public WordCountTable count(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            if (bounds.length < 2) {
+                return new WordCountTable();
+            }
+            try {
+                return pool.invoke(new CountTask(channel, bounds, 0, bounds.length - 1));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * @return ascending chunk boundaries from 0 to the file size; chunk i is [bounds[i], bounds[i + 1])
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        while (size - position > chunkSize) {
+            long cut = position + chunkSize;
+            // Move the cut forward to the first separator so the word under it stays whole
+            boolean found = false;
+            while (!found && cut < size) {
+                probe.clear();
+                int read = channel.read(probe, cut);
+                for (int i = 0; i < read; i++) {
+                    if (!isWordByte(probe.get(i))) {
+                        found = true;
+                        break;
+                    }
+                    cut++;
+                }
+                if (read <= 0) {
+                    break;
+                }
+            }
+            if (cut >= size) {
+                break;
+            }
+            bounds.add(cut);
+            position = cut;
+        }
+        if (size > 0) {
+            bounds.add(size);
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static WordCountTable countChunk(FileChannel channel, long start, long end) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        WordCountTable table = new WordCountTable();
+        char[] token = new char[64];
+        int length = 0;
+        int limit = buffer.limit();
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            } else if (!isWordByte(b)) {
+                if (length > 0) {
+                    table.accept(token, length);
+                    length = 0;
+                }
+                continue;
+            }
+            if (length == token.length) {
+                token = Arrays.copyOf(token, length * 2);
+            }
+            token[length++] = (char) b;
+        }
+        if (length > 0) {
+            table.accept(token, length);
+        }
+        return table;
+    }
+
+    private static boolean isWordByte(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '_';
+    }
+
+    /**
+     * Counts chunks [from, to) by splitting the range in half until one chunk remains.
+     */
+    private static final class CountTask extends RecursiveTask<WordCountTable> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+
+        CountTask(FileChannel channel, long[] bounds, int from, int to) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected WordCountTable compute() {
+            if (to - from == 1) {
+                return countChunk(channel, bounds[from], bounds[to]);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(channel, bounds, from, mid);
+            left.fork();
+            WordCountTable right = new CountTask(channel, bounds, mid, to).compute();
+            WordCountTable merged = left.join();
+            // Merge the smaller table into the larger one
+            if (merged.size() < right.size()) {
+                right.mergeFrom(merged);
+                return right;
+            }
+            merged.mergeFrom(right);
+            return merged;
+        }
+    }
+}
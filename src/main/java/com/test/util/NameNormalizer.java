@@ -0,0 +1,219 @@
+package com.test.util;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Configurable, allocation-light normalization for names and other short free-text values.
+ *
+ * <h3>Rules</h3>
+ * Leading/trailing characters up to U+0020 are always trimmed, exactly like {@link String#trim()};
+ * Unicode spaces such as U+00A0 or U+3000 are kept unless a rule below removes them. On top of that:
+ * <ul>
+ *     <li>{@link Rule#NFKC}: compatibility composition - full-width letters, ligatures and
+ *         no-break spaces become their plain equivalents ("ＡＢＣ" -> "ABC")</li>
+ *     <li>{@link Rule#FOLD_DIACRITICS}: removes combining accents ("José" -> "Jose")</li>
+ *     <li>{@link Rule#COLLAPSE_WHITESPACE}: whitespace runs, including Unicode spaces (U+00A0,
+ *         U+2000-U+200A, U+3000, ...), become a single inner space and are dropped at both ends</li>
+ *     <li>{@link Rule#FOLD_CASE}: lowercases with {@link Locale#ROOT}</li>
+ * </ul>
+ *
+ * <h3>Fast Paths</h3>
+ * <ul>
+ *     <li><strong>No-op:</strong> one read-only scan detects input that is already normalized and
+ *         returns the same String instance - no allocation at all</li>
+ *     <li><strong>ASCII:</strong> NFKC and diacritic folding are identities on ASCII, so ASCII input
+ *         needing work is rewritten in a single pass into one char[] (one String allocated instead
+ *         of one per trim/lowercase step)</li>
+ *     <li><strong>Unicode:</strong> only non-ASCII input goes through {@link Normalizer}</li>
+ * </ul>
+ *
+ * <p>Instances are immutable and thread-safe, so they can be shared across parallel streams.</p>
+ */
+public final class NameNormalizer implements UnaryOperator<String> {
+
+    public enum Rule {
+        NFKC,
+        FOLD_DIACRITICS,
+        COLLAPSE_WHITESPACE,
+        FOLD_CASE
+    }
+
+    /** Trim + lowercase: the classic {@code name.trim().toLowerCase(Locale.ROOT)}. */
+    public static final NameNormalizer BASIC = of(Rule.FOLD_CASE);
+
+    /** Every rule enabled - suitable for matching names from mixed-quality sources. */
+    public static final NameNormalizer FULL = of(EnumSet.allOf(Rule.class));
+
+    private final Set<Rule> rules;
+    private final boolean nfkc;
+    private final boolean foldDiacritics;
+    private final boolean collapseWhitespace;
+    private final boolean foldCase;
+
+    private NameNormalizer(Set<Rule> rules) {
+        this.rules = rules;
+        this.nfkc = rules.contains(Rule.NFKC);
+        this.foldDiacritics = rules.contains(Rule.FOLD_DIACRITICS);
+        this.collapseWhitespace = rules.contains(Rule.COLLAPSE_WHITESPACE);
+        this.foldCase = rules.contains(Rule.FOLD_CASE);
+    }
+
+    public static NameNormalizer of(Rule... rules) {
+        EnumSet<Rule> set = EnumSet.noneOf(Rule.class);
+        for (Rule rule : rules) {
+            set.add(rule);
+        }
+        return new NameNormalizer(set);
+    }
+
+    public static NameNormalizer of(Collection<Rule> rules) {
+        return new NameNormalizer(rules.isEmpty() ? EnumSet.noneOf(Rule.class) : EnumSet.copyOf(rules));
+    }
+
+    public Set<Rule> getRules() {
+        return EnumSet.copyOf(rules);
+    }
+
+    @Override
+    public String apply(String value) {
+        return normalize(value);
+    }
+
+    /**
+     * @param value raw value; null is treated as empty
+     * @return normalized value, the same instance if nothing changed, or "" if only whitespace remains
+     */
+    public String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        int length = value.length();
+        boolean clean = true;
+        boolean previousSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return normalizeUnicode(value);
+            }
+            if (c <= ' ') {
+                // Leading whitespace, repeated or non-' ' whitespace when collapsing
+                if (i == 0 || (collapseWhitespace && (previousSpace || c != ' '))) {
+                    clean = false;
+                }
+                previousSpace = true;
+            } else {
+                if (foldCase && c >= 'A' && c <= 'Z') {
+                    clean = false;
+                }
+                previousSpace = false;
+            }
+        }
+        if (clean && !previousSpace) {
+            return value;
+        }
+        return rewriteAscii(value);
+    }
+
+    private String rewriteAscii(String value) {
+        int begin = 0;
+        int end = value.length();
+        while (begin < end && value.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        char[] out = new char[end - begin];
+        int n = 0;
+        for (int i = begin; i < end; i++) {
+            char c = value.charAt(i);
+            if (c <= ' ') {
+                if (!collapseWhitespace) {
+                    out[n++] = c;
+                } else if (out[n - 1] != ' ') {
+                    out[n++] = ' ';                 // first char is never whitespace after trimming
+                }
+            } else {
+                out[n++] = foldCase && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            }
+        }
+        return new String(out, 0, n);
+    }
+
+    private String normalizeUnicode(String value) {
+        String result = value;
+        if (nfkc && !Normalizer.isNormalized(result, Normalizer.Form.NFKC)) {
+            result = Normalizer.normalize(result, Normalizer.Form.NFKC);
+        }
+        if (foldDiacritics) {
+            result = stripDiacritics(result);
+        }
+        if (foldCase) {
+            result = result.toLowerCase(Locale.ROOT);        // returns the same instance when unchanged
+        }
+        result = collapseWhitespace ? collapse(result) : trim(result);
+        return result.equals(value) ? value : result;
+    }
+
+    private static String stripDiacritics(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder out = null;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                if (out == null) {
+                    out = new StringBuilder(decomposed.length()).append(decomposed, 0, i);
+                }
+            } else if (out != null) {
+                out.append(c);
+            }
+        }
+        if (out == null) {
+            return value;                                    // nothing to strip
+        }
+        return Normalizer.normalize(out, Normalizer.Form.NFC);
+    }
+
+    /**
+     * {@link String#trim()} semantics: only chars up to U+0020 are removed.
+     */
+    private static String trim(String value) {
+        int begin = 0;
+        int end = value.length();
+        while (begin < end && value.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (end > begin && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return value.substring(begin, end);                  // same instance when nothing trimmed
+    }
+
+    private static String collapse(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSpace(c)) {
+                pendingSpace = out.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isSpace(char c) {
+        return c <= ' ' || Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+}
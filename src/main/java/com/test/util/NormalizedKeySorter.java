@@ -0,0 +1,349 @@
+package com.test.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-field sorting through binary-comparable ("normalized") keys.
+ *
+ * <h3>How it works</h3>
+ * <ul>
+ *     <li><strong>Encode once:</strong> every row is encoded into one byte[] whose unsigned lexicographic order
+ *         equals the requested multi-field order, so field extraction, boxing and per-field comparator
+ *         dispatch happen n times instead of O(n log n) times</li>
+ *     <li><strong>Compare as memcmp:</strong> keys are compared with {@link Arrays#compareUnsigned(byte[], byte[])},
+ *         a vectorized mismatch search</li>
+ *     <li><strong>Sort:</strong> (key, row index) pairs are sorted with {@link Arrays#parallelSort}, which is
+ *         stable, so rows with equal keys keep their input order like {@code stream().sorted()}</li>
+ *     <li><strong>Sort-limit:</strong> {@link #top(List, int)} returns the first N rows with bounded
+ *         per-chunk heaps instead of a full sort</li>
+ * </ul>
+ *
+ * <h3>Field encodings</h3>
+ * <ul>
+ *     <li><strong>String:</strong> chars 0x00-0x7E as one byte {@code c + 1}, other chars as three bytes
+ *         starting at 0x80, then a 0x00 terminator; order matches {@link String#compareTo}. Null sorts first</li>
+ *     <li><strong>double:</strong> IEEE bits with the sign bit flipped (all bits for negatives), big-endian;
+ *         order matches {@link Double#compare}</li>
+ *     <li><strong>int:</strong> sign bit flipped, big-endian</li>
+ *     <li><strong>Descending:</strong> the field's bytes are inverted; every encoding is prefix-free, so
+ *         inversion cannot leak into the next field</li>
+ * </ul>
+ *
+ * @param <T> row type
+ */
+public final class NormalizedKeySorter<T> {
+
+    /** Inputs smaller than this are encoded and sorted sequentially. */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private static final Comparator<byte[]> KEY_ORDER = Arrays::compareUnsigned;
+
+    private static final ThreadLocal<KeyBuffer> BUFFER = ThreadLocal.withInitial(KeyBuffer::new);
+
+    private final List<KeyField<T>> fields;
+
+    public NormalizedKeySorter(List<KeyField<T>> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort field is required");
+        }
+        this.fields = new ArrayList<>(fields);
+    }
+
+    /**
+     * @return the normalized key of {@code row}
+     */
+    public byte[] encode(T row) {
+        KeyBuffer out = encodeToBuffer(row);
+        return Arrays.copyOf(out.bytes, out.size);
+    }
+
+    /**
+     * Encodes {@code row} into this thread's scratch buffer; valid until the next encode on this thread.
+     */
+    private KeyBuffer encodeToBuffer(T row) {
+        KeyBuffer out = BUFFER.get();
+        out.size = 0;
+        for (KeyField<T> field : fields) {
+            int start = out.size;
+            field.encoder.encode(row, out);
+            if (field.descending) {
+                for (int i = start; i < out.size; i++) {
+                    out.bytes[i] = (byte) ~out.bytes[i];
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return unsigned lexicographic order on normalized keys
+     */
+    public static Comparator<byte[]> keyOrder() {
+        return KEY_ORDER;
+    }
+
+    /**
+     * @return {@code row} paired with its normalized key, e.g. for {@link ExternalSorter}
+     */
+    public Keyed<T> keyed(T row) {
+        return new Keyed<>(encode(row), row);
+    }
+
+    /**
+     * @return the rows in key order; stable for equal keys
+     */
+    public List<T> sort(List<T> rows) {
+        Row[] keyed = encodeAll(rows);
+        if (keyed.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(keyed);
+        } else {
+            Arrays.sort(keyed);
+        }
+        List<T> sorted = new ArrayList<>(keyed.length);
+        for (Row row : keyed) {
+            sorted.add(rows.get(row.index));
+        }
+        return sorted;
+    }
+
+    /**
+     * Sort-limit: the first {@code limit} rows of {@link #sort(List)} without sorting everything.
+     *
+     * <p>Each chunk of the input keeps its best {@code limit} rows in a bounded max-heap (O(n log limit));
+     * a row's key is encoded into the scratch buffer and only copied when it beats the heap's worst entry,
+     * so rejected rows allocate nothing. Chunks run in parallel for large inputs and the at most
+     * chunks x limit survivors are sorted at the end. Equal keys keep input order.</p>
+     *
+     * @return the {@code limit} smallest rows in key order (all rows if fewer)
+     */
+    public List<T> top(List<T> rows, int limit) {
+        if (limit <= 0 || rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int chunks = rows.size() < PARALLEL_THRESHOLD ? 1
+            : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, rows.size() / (PARALLEL_THRESHOLD / 4)));
+        int chunkSize = (rows.size() + chunks - 1) / chunks;
+
+        IntStream chunkIds = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            chunkIds = chunkIds.parallel();
+        }
+        List<Row> candidates = new ArrayList<>();
+        chunkIds.mapToObj(c -> topOfRange(rows, c * chunkSize, Math.min(rows.size(), (c + 1) * chunkSize), limit))
+            .forEachOrdered(candidates::addAll);
+
+        candidates.sort(Row::compareWithIndex);
+        List<T> result = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Row row : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            result.add(rows.get(row.index));
+        }
+        return result;
+    }
+
+    /**
+     * @return the best {@code limit} rows of {@code rows[from, to)}, in no particular order
+     */
+    private PriorityQueue<Row> topOfRange(List<T> rows, int from, int to, int limit) {
+        // Max-heap on (key, index): the root is the worst row kept so far
+        PriorityQueue<Row> heap = new PriorityQueue<>(Math.min(limit, Math.max(1, to - from)) + 1,
+            (a, b) -> b.compareWithIndex(a));
+        for (int i = from; i < to; i++) {
+            KeyBuffer key = encodeToBuffer(rows.get(i));
+            if (heap.size() == limit) {
+                // Indices only grow within a range, so an equal key loses to the kept row
+                byte[] worst = heap.peek().key;
+                if (Arrays.compareUnsigned(key.bytes, 0, key.size, worst, 0, worst.length) >= 0) {
+                    continue;
+                }
+                heap.poll();
+            }
+            heap.add(new Row(Arrays.copyOf(key.bytes, key.size), i));
+        }
+        return heap;
+    }
+
+    /**
+     * @return (key, index) pairs for every row, encoded in parallel for large inputs
+     */
+    Row[] encodeAll(List<T> rows) {
+        Row[] keyed = new Row[rows.size()];
+        IntStream indices = IntStream.range(0, keyed.length);
+        if (keyed.length >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> keyed[i] = new Row(encode(rows.get(i)), i));
+        return keyed;
+    }
+
+    static void writeString(String value, KeyBuffer out) {
+        if (value == null) {
+            out.write(0x00);
+            return;
+        }
+        out.write(0x01);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x7F) {
+                out.write(c + 1);
+            } else {
+                out.write(0x80 | (c >>> 14));
+                out.write((c >>> 7) & 0x7F);
+                out.write(c & 0x7F);
+            }
+        }
+        out.write(0x00);
+    }
+
+    static void writeDouble(double value, KeyBuffer out) {
+        long bits = Double.doubleToLongBits(value);
+        bits = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (bits >>> shift));
+        }
+    }
+
+    static void writeInt(int value, KeyBuffer out) {
+        int bits = value ^ Integer.MIN_VALUE;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(bits >>> shift);
+        }
+    }
+
+    /**
+     * One sort field: how to encode it and its direction.
+     *
+     * @param <T> row type
+     */
+    public static final class KeyField<T> {
+
+        private final Encoder<T> encoder;
+        private final boolean descending;
+
+        private KeyField(Encoder<T> encoder, boolean descending) {
+            this.encoder = encoder;
+            this.descending = descending;
+        }
+
+        public static <T> KeyField<T> ofString(Function<? super T, String> getter, boolean descending) {
+            return new KeyField<>((row, out) -> writeString(getter.apply(row), out), descending);
+        }
+
+        public static <T> KeyField<T> ofDouble(ToDoubleFunction<? super T> getter, boolean descending) {
+            return new KeyField<>((row, out) -> writeDouble(getter.applyAsDouble(row), out), descending);
+        }
+
+        public static <T> KeyField<T> ofInt(ToIntFunction<? super T> getter, boolean descending) {
+            return new KeyField<>((row, out) -> writeInt(getter.applyAsInt(row), out), descending);
+        }
+    }
+
+    /**
+     * A row together with its normalized key; ordered by the key alone, so sorting never re-reads
+     * the row's fields and spilled runs never recompute keys.
+     *
+     * @param <T> row type
+     */
+    public static final class Keyed<T> {
+
+        private static final Comparator<Keyed<?>> ORDER = (a, b) -> Arrays.compareUnsigned(a.key, b.key);
+
+        private final byte[] key;
+        private final T value;
+
+        private Keyed(byte[] key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        /**
+         * @return unsigned lexicographic order on the keys
+         */
+        public static Comparator<Keyed<?>> order() {
+            return ORDER;
+        }
+
+        /**
+         * @return a spill codec writing the key (length-prefixed) followed by {@code valueCodec}'s bytes
+         */
+        public static <T> ExternalSorter.Codec<Keyed<T>> codec(ExternalSorter.Codec<T> valueCodec) {
+            return new ExternalSorter.Codec<>() {
+                @Override
+                public void write(Keyed<T> record, DataOutput out) throws IOException {
+                    out.writeInt(record.key.length);
+                    out.write(record.key);
+                    valueCodec.write(record.value, out);
+                }
+
+                @Override
+                public Keyed<T> read(DataInput in) throws IOException {
+                    byte[] key = new byte[in.readInt()];
+                    in.readFully(key);
+                    return new Keyed<>(key, valueCodec.read(in));
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Encoder<T> {
+        void encode(T row, KeyBuffer out);
+    }
+
+    /**
+     * Per-thread scratch buffer for encoding; only the finished key is copied out.
+     */
+    static final class KeyBuffer {
+
+        private byte[] bytes = new byte[64];
+        private int size;
+
+        void write(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+    }
+
+    /**
+     * Normalized key plus the row's input position.
+     */
+    static final class Row implements Comparable<Row> {
+
+        final byte[] key;
+        final int index;
+
+        Row(byte[] key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Row other) {
+            return Arrays.compareUnsigned(key, other.key);
+        }
+
+        /**
+         * Key order, then input position: the total order that a stable sort produces.
+         */
+        int compareWithIndex(Row other) {
+            int c = compareTo(other);
+            return c != 0 ? c : Integer.compare(index, other.index);
+        }
+    }
+}
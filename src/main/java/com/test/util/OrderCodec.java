@@ -0,0 +1,80 @@
+package com.test.util;
+
+import com.test.model.Order;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of an {@link Order} for spilled sort runs.
+ *
+ * <p>Strings are written as a UTF-8 byte length (-1 for null) plus bytes, so unlike
+ * {@link DataOutput#writeUTF(String)} there is no 64 KB limit; items are a count (-1 for null) plus strings.</p>
+ */
+public final class OrderCodec implements ExternalSorter.Codec<Order> {
+
+    public static final OrderCodec INSTANCE = new OrderCodec();
+
+    private static final int NULL = -1;
+
+    private OrderCodec() {
+    }
+
+    @Override
+    public void write(Order order, DataOutput out) throws IOException {
+        writeString(order.getId(), out);
+        writeString(order.getCustomerId(), out);
+        out.writeDouble(order.getAmount());
+        writeString(order.getStatus(), out);
+        List<String> items = order.getItems();
+        if (items == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        out.writeInt(items.size());
+        for (String item : items) {
+            writeString(item, out);
+        }
+    }
+
+    @Override
+    public Order read(DataInput in) throws IOException {
+        String id = readString(in);
+        String customerId = readString(in);
+        double amount = in.readDouble();
+        String status = readString(in);
+        int count = in.readInt();
+        List<String> items = null;
+        if (count != NULL) {
+            items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(readString(in));
+            }
+        }
+        return new Order(id, customerId, amount, status, items);
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package com.test.util;
+
+import com.test.model.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses order sort specifications such as {@code ["status", "customerId", "amount:desc"]}.
+ *
+ * <p>Fields: {@code id}, {@code status}, {@code customerId}, {@code amount}, {@code items} (number of
+ * items). Each may be suffixed with {@code :asc} (default) or {@code :desc}; earlier fields take
+ * precedence, as in a {@code Comparator.comparing(...).thenComparing(...)} chain.</p>
+ */
+public final class OrderSortSpec {
+
+    private OrderSortSpec() {
+    }
+
+    /**
+     * @return a sorter for the given fields
+     * @throws IllegalArgumentException for an unknown field or direction
+     */
+    public static NormalizedKeySorter<Order> parse(List<String> spec) {
+        List<NormalizedKeySorter.KeyField<Order>> fields = new ArrayList<>();
+        for (SortField field : SortField.parse(spec)) {
+            boolean descending = field.descending();
+            fields.add(switch (field.name()) {
+                case "id" -> NormalizedKeySorter.KeyField.ofString(Order::getId, descending);
+                case "status" -> NormalizedKeySorter.KeyField.ofString(Order::getStatus, descending);
+                case "customerId" -> NormalizedKeySorter.KeyField.ofString(Order::getCustomerId, descending);
+                case "amount" -> NormalizedKeySorter.KeyField.ofDouble(Order::getAmount, descending);
+                case "items" -> NormalizedKeySorter.KeyField.ofInt(
+                    (Order order) -> order.getItems() == null ? 0 : order.getItems().size(), descending);
+                default -> throw new IllegalArgumentException("Unknown sort field: " + field.name());
+            });
+        }
+        return new NormalizedKeySorter<>(fields);
+    }
+}
@@ -0,0 +1,71 @@
+package com.test.util;
+
+import java.util.Arrays;
+
+/**
+ * Delta + varint encoded ascending document numbers, shared by {@link InvertedIndex} and {@link ItemIndex}.
+ */
+final class PostingList {
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    void append(int doc) {
+        int gap = doc - lastDoc;                           // first gap is doc + 1, always positive
+        lastDoc = doc;
+        size++;
+        while ((gap & ~0x7F) != 0) {
+            put((byte) ((gap & 0x7F) | 0x80));
+            gap >>>= 7;
+        }
+        put((byte) gap);
+    }
+
+    /**
+     * @return number of documents in the list
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return encoded size in bytes
+     */
+    int byteLength() {
+        return length;
+    }
+
+    /**
+     * @return the last appended document, or -1 if the list is empty
+     */
+    int lastDoc() {
+        return lastDoc;
+    }
+
+    int[] decode() {
+        int[] docs = new int[size];
+        int doc = -1;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            doc += gap;
+            docs[i] = doc;
+        }
+        return docs;
+    }
+
+    private void put(byte b) {
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, length * 2);
+        }
+        bytes[length++] = b;
+    }
+}
@@ -0,0 +1,131 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Digit and string reversal without intermediate strings.
+ *
+ * <h3>Numbers</h3>
+ * <p>Digits are reversed arithmetically ({@code r = r * 10 + v % 10}), so there is no
+ * {@code String.valueOf}/{@code parseInt} round trip. Each step checks the result bound before
+ * multiplying: single values throw {@link ArithmeticException} like {@link Math#addExact(int, int)},
+ * and the bulk method reports overflowing positions instead. The sign is kept ({@code -120 -> -21}).</p>
+ *
+ * <h3>Strings</h3>
+ * <p>Strings are reversed by code point, so surrogate pairs (emoji, rare CJK) stay valid, into a
+ * per-thread char[] buffer that only grows; the result String is the only allocation.</p>
+ */
+public final class Reversal {
+
+    /** Bulk inputs smaller than this are processed sequentially. */
+    static final int PARALLEL_THRESHOLD = 16_384;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+    private Reversal() {
+    }
+
+    /**
+     * @throws ArithmeticException if the reversed value does not fit in an int (e.g. 1_000_000_009)
+     */
+    public static int reverseDigits(int value) {
+        return Math.toIntExact(reverseDigits((long) value));
+    }
+
+    /**
+     * @throws ArithmeticException if the reversed value does not fit in a long
+     */
+    public static long reverseDigits(long value) {
+        long reversed = 0;
+        while (value != 0) {
+            int digit = (int) (value % 10);
+            if (overflows(reversed, digit, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                throw new ArithmeticException("long overflow");
+            }
+            reversed = reversed * 10 + digit;
+            value /= 10;
+        }
+        return reversed;
+    }
+
+    /**
+     * Reverses the digits of every value into {@code out} (which may be {@code values} itself).
+     * Values whose reversal leaves [{@code min}, {@code max}] are written as 0 and reported.
+     *
+     * @param min lower bound of the result type, e.g. {@code Integer.MIN_VALUE}
+     * @param max upper bound of the result type, e.g. {@code Integer.MAX_VALUE}
+     * @return ascending indices of values whose reversal overflowed
+     */
+    public static int[] reverseDigits(long[] values, long[] out, long min, long max) {
+        if (out.length < values.length) {
+            throw new IllegalArgumentException("out is shorter than values");
+        }
+        IntStream indices = IntStream.range(0, values.length);
+        if (values.length >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        return indices.filter(i -> !reverseInto(values, out, i, min, max)).toArray();
+    }
+
+    /**
+     * @return {@code text} with its code points in reverse order
+     */
+    public static String reverseCodePoints(CharSequence text) {
+        int length = text.length();
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+            BUFFER.set(buffer);
+        }
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // Keep the pair in order at its mirrored position
+                buffer[length - i - 2] = c;
+                buffer[length - i - 1] = text.charAt(i + 1);
+                i += 2;
+            } else {
+                buffer[length - i - 1] = c;
+                i++;
+            }
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Reverses every string by code point, in parallel for large inputs; order is preserved.
+     */
+    public static List<String> reverseCodePoints(List<String> texts) {
+        return (texts.size() >= PARALLEL_THRESHOLD ? texts.parallelStream() : texts.stream())
+            .map(text -> text == null ? null : reverseCodePoints(text))
+            .collect(Collectors.toList());
+    }
+
+    private static boolean reverseInto(long[] values, long[] out, int index, long min, long max) {
+        long value = values[index];
+        long reversed = 0;
+        while (value != 0) {
+            int digit = (int) (value % 10);
+            if (overflows(reversed, digit, min, max)) {
+                out[index] = 0;
+                return false;
+            }
+            reversed = reversed * 10 + digit;
+            value /= 10;
+        }
+        out[index] = reversed;
+        return true;
+    }
+
+    /**
+     * @return true if {@code reversed * 10 + digit} leaves [min, max]; digit has the sign of the input
+     */
+    private static boolean overflows(long reversed, int digit, long min, long max) {
+        // Division truncates toward zero, which is floor for the positive bound and ceiling for the negative one
+        return digit >= 0 ? reversed > (max - digit) / 10 : reversed < (min - digit) / 10;
+    }
+}
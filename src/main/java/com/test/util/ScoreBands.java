@@ -0,0 +1,168 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Classifies int scores into N bands (grade bands, pass/fail) with a counting-sort style layout.
+ *
+ * <h3>How it works</h3>
+ * <ol>
+ *     <li><strong>Count:</strong> each chunk of the input counts how many of its scores fall into each band;
+ *         band = number of thresholds {@code <=} score, found by binary search</li>
+ *     <li><strong>Layout:</strong> prefix sums over (band, chunk) give every chunk its own write offset per
+ *         band, so band members end up contiguous in one int[] and in input order</li>
+ *     <li><strong>Scatter:</strong> each chunk writes its scores to its offsets; chunks never share a slot,
+ *         so both passes run in parallel without locking</li>
+ * </ol>
+ *
+ * <p>Scores stay primitive throughout: no Integer boxing and no per-band ArrayList.</p>
+ */
+public final class ScoreBands {
+
+    /** Inputs smaller than this are processed as a single chunk. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int[] thresholds;
+    private final int[] counts;
+    private final int[] offsets;
+    private final int[] members;
+
+    private ScoreBands(int[] thresholds, int[] counts, int[] offsets, int[] members) {
+        this.thresholds = thresholds;
+        this.counts = counts;
+        this.offsets = offsets;
+        this.members = members;
+    }
+
+    /**
+     * Classifies {@code scores} into {@code thresholds.length + 1} bands: band 0 is below
+     * {@code thresholds[0]}, band i is {@code [thresholds[i - 1], thresholds[i])} and the last band is
+     * at or above the last threshold.
+     *
+     * @param thresholds strictly ascending band boundaries
+     * @param includeMembers whether to lay out band members (second pass); counts are always computed
+     */
+    public static ScoreBands classify(int[] scores, int[] thresholds, boolean includeMembers) {
+        for (int i = 1; i < thresholds.length; i++) {
+            if (thresholds[i] <= thresholds[i - 1]) {
+                throw new IllegalArgumentException("thresholds must be strictly ascending");
+            }
+        }
+        int bands = thresholds.length + 1;
+        int chunks = scores.length < PARALLEL_THRESHOLD
+            ? 1
+            : Math.min(scores.length / (PARALLEL_THRESHOLD / 4), Runtime.getRuntime().availableProcessors() * 4);
+        int chunkSize = (scores.length + chunks - 1) / Math.max(chunks, 1);
+
+        // Pass 1: per-chunk band counts
+        int[][] chunkCounts = new int[chunks][];
+        chunkStream(chunks).forEach(c -> {
+            int[] local = new int[bands];
+            int end = Math.min(scores.length, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < end; i++) {
+                local[band(scores[i], thresholds)]++;
+            }
+            chunkCounts[c] = local;
+        });
+
+        // Prefix sums: band-major, then chunk order within a band
+        int[] counts = new int[bands];
+        int[] offsets = new int[bands + 1];
+        int[][] writeOffsets = new int[chunks][bands];
+        int position = 0;
+        for (int b = 0; b < bands; b++) {
+            offsets[b] = position;
+            for (int c = 0; c < chunks; c++) {
+                writeOffsets[c][b] = position;
+                position += chunkCounts[c][b];
+                counts[b] += chunkCounts[c][b];
+            }
+        }
+        offsets[bands] = position;
+        if (!includeMembers) {
+            return new ScoreBands(thresholds.clone(), counts, offsets, null);
+        }
+
+        // Pass 2: scatter each chunk's scores to its own slots
+        int[] members = new int[scores.length];
+        chunkStream(chunks).forEach(c -> {
+            int[] next = writeOffsets[c];
+            int end = Math.min(scores.length, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < end; i++) {
+                members[next[band(scores[i], thresholds)]++] = scores[i];
+            }
+        });
+        return new ScoreBands(thresholds.clone(), counts, offsets, members);
+    }
+
+    /**
+     * @return band index of {@code score}: the number of thresholds less than or equal to it
+     */
+    public static int band(int score, int[] thresholds) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= score) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return number of bands ({@code thresholds.length + 1})
+     */
+    public int bandCount() {
+        return counts.length;
+    }
+
+    /**
+     * @return number of scores in {@code band}
+     */
+    public int count(int band) {
+        return counts[band];
+    }
+
+    /**
+     * @return scores in {@code band}, in input order
+     * @throws IllegalStateException if members were not requested
+     */
+    public int[] members(int band) {
+        if (members == null) {
+            throw new IllegalStateException("members were not laid out");
+        }
+        return Arrays.copyOfRange(members, offsets[band], offsets[band + 1]);
+    }
+
+    /**
+     * @return whether band members were laid out
+     */
+    public boolean hasMembers() {
+        return members != null;
+    }
+
+    /**
+     * @return default label of {@code band}, e.g. "<60", "60-69", ">=90"
+     */
+    public String label(int band) {
+        if (thresholds.length == 0) {
+            return "all";
+        }
+        if (band == 0) {
+            return "<" + thresholds[0];
+        }
+        if (band == thresholds.length) {
+            return ">=" + thresholds[band - 1];
+        }
+        return thresholds[band - 1] + "-" + (thresholds[band] - 1);
+    }
+
+    private static IntStream chunkStream(int chunks) {
+        IntStream stream = IntStream.range(0, chunks);
+        return chunks > 1 ? stream.parallel() : stream;
+    }
+}
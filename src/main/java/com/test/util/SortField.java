@@ -0,0 +1,50 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One entry of a declarative sort specification such as {@code ["status", "amount:desc"]}: a field name
+ * optionally suffixed with {@code :asc} (default) or {@code :desc}. Shared by {@link OrderSortSpec} and
+ * {@link RecordComparators}, which map the names onto their own fields.
+ */
+public final class SortField {
+
+    private final String name;
+    private final boolean descending;
+
+    private SortField(String name, boolean descending) {
+        this.name = name;
+        this.descending = descending;
+    }
+
+    /**
+     * @return one field per entry, in precedence order
+     * @throws IllegalArgumentException for a direction other than {@code asc} or {@code desc}
+     */
+    public static List<SortField> parse(List<String> spec) {
+        List<SortField> fields = new ArrayList<>(spec.size());
+        for (String entry : spec) {
+            String[] parts = entry.trim().split(":", 2);
+            boolean descending = false;
+            if (parts.length == 2) {
+                String direction = parts[1].trim().toLowerCase(Locale.ROOT);
+                if (!direction.equals("asc") && !direction.equals("desc")) {
+                    throw new IllegalArgumentException("Unknown sort direction: " + parts[1]);
+                }
+                descending = direction.equals("desc");
+            }
+            fields.add(new SortField(parts[0].trim(), descending));
+        }
+        return fields;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+}
@@ -0,0 +1,289 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitters summary: approximate top-K with a fixed number of counters.
+ *
+ * <p>Keeps at most {@code capacity} monitored words. A new word arriving when the summary is full
+ * replaces the word with the smallest count and inherits that count as its error. Guarantees, for a
+ * stream of N words:</p>
+ * <ul>
+ *     <li>every word with true frequency above {@code N / capacity} is monitored</li>
+ *     <li>each reported count overestimates the true count by at most its recorded error,
+ *         which is at most {@code N / capacity}</li>
+ * </ul>
+ *
+ * <p>The minimum is found through an indexed min-heap over counter slots, so every update is
+ * O(log capacity) and memory never grows with the vocabulary. Words are found through a
+ * linear-probing table of slot numbers keyed by {@link String#hashCode()}, so a {@link WordTokenizer}
+ * slice is matched in place and a String is allocated only when a new word takes a slot. The table
+ * hashes and matches like {@link StringDictionary} but supports removal, since evicted words must be
+ * unlinked. Summaries are mergeable (see {@link #merge(SpaceSaving)}), so parallel workers can each keep one.</p>
+ */
+public final class SpaceSaving {
+
+    private final int capacity;
+    private final int[] index;             // table position -> slot + 1, 0 = empty
+    private final int[] hashes;            // slot -> String.hashCode() of its word
+    private final String[] words;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] heap;              // heap position -> slot
+    private final int[] heapIndex;         // slot -> heap position
+    private int size;
+    private long totalCount;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.index = new int[Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1];
+        this.hashes = new int[capacity];
+        this.words = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.heap = new int[capacity];
+        this.heapIndex = new int[capacity];
+    }
+
+    public void add(String word) {
+        add(word, 1, 0);
+    }
+
+    /**
+     * Adds one occurrence of the word held in {@code buffer[0, length)}; a String is created only if
+     * the word is not monitored yet.
+     */
+    public void add(char[] buffer, int length) {
+        int hash = StringDictionary.hashOf(buffer, length);
+        int mask = index.length - 1;
+        for (int position = StringDictionary.spread(hash) & mask; index[position] != 0; position = (position + 1) & mask) {
+            int slot = index[position] - 1;
+            if (hashes[slot] == hash && StringDictionary.matches(words[slot], buffer, length)) {
+                totalCount++;
+                counts[slot]++;
+                siftDown(heapIndex[slot]);
+                return;
+            }
+        }
+        totalCount++;
+        insert(new String(buffer, 0, length), hash, 1, 0);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code word} whose count is already uncertain by {@code error}.
+     */
+    private void add(String word, long count, long error) {
+        totalCount += count;
+        int hash = word.hashCode();
+        int mask = index.length - 1;
+        for (int position = StringDictionary.spread(hash) & mask; index[position] != 0; position = (position + 1) & mask) {
+            int slot = index[position] - 1;
+            if (hashes[slot] == hash && words[slot].equals(word)) {
+                counts[slot] += count;
+                errors[slot] += error;
+                siftDown(heapIndex[slot]);
+                return;
+            }
+        }
+        insert(word, hash, count, error);
+    }
+
+    /**
+     * Monitors a word that is not in the summary yet, evicting the minimum when full.
+     */
+    private void insert(String word, int hash, long count, long error) {
+        if (size < capacity) {
+            int free = size++;
+            words[free] = word;
+            hashes[free] = hash;
+            counts[free] = count;
+            errors[free] = error;
+            link(free);
+            heap[free] = free;
+            heapIndex[free] = free;
+            siftUp(free);
+            return;
+        }
+        // Full: replace the minimum; the newcomer may have occurred up to min times unseen
+        int victim = heap[0];
+        long min = counts[victim];
+        unlink(victim);
+        words[victim] = word;
+        hashes[victim] = hash;
+        counts[victim] = min + count;
+        errors[victim] = min + error;
+        link(victim);
+        siftDown(0);
+    }
+
+    /**
+     * Merges another summary into this one. A word missing from one side may have occurred up to
+     * that side's minimum count there, so that minimum is added to both its count and its error;
+     * only the {@code capacity} largest merged counters are kept.
+     */
+    public void merge(SpaceSaving other) {
+        long thisMin = size == capacity ? counts[heap[0]] : 0;
+        long otherMin = other.size == other.capacity ? other.counts[other.heap[0]] : 0;
+
+        Map<String, long[]> merged = new HashMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            merged.put(words[slot], new long[] {counts[slot] + otherMin, errors[slot] + otherMin});
+        }
+        for (int slot = 0; slot < other.size; slot++) {
+            long[] entry = merged.get(other.words[slot]);
+            if (entry != null) {
+                entry[0] += other.counts[slot] - otherMin;
+                entry[1] += other.errors[slot] - otherMin;
+            } else {
+                merged.put(other.words[slot],
+                    new long[] {other.counts[slot] + thisMin, other.errors[slot] + thisMin});
+            }
+        }
+
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        long mergedTotal = totalCount + other.totalCount;
+
+        Arrays.fill(index, 0);
+        size = 0;
+        for (int i = 0; i < Math.min(capacity, entries.size()); i++) {
+            Map.Entry<String, long[]> entry = entries.get(i);
+            add(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+        totalCount = mergedTotal;
+    }
+
+    /**
+     * @return up to k monitored words with their estimated counts, in descending count order
+     */
+    public Map<String, Long> top(int k) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int slot : sortedSlots(k)) {
+            result.put(words[slot], counts[slot]);
+        }
+        return result;
+    }
+
+    /**
+     * @return maximum overestimation for each of the top k words, in the same order as {@link #top(int)}
+     */
+    public Map<String, Long> topErrors(int k) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int slot : sortedSlots(k)) {
+            result.put(words[slot], errors[slot]);
+        }
+        return result;
+    }
+
+    /**
+     * @return guaranteed bound on any count error: N / capacity
+     */
+    public long errorBound() {
+        return totalCount / capacity;
+    }
+
+    /**
+     * Rough retained size: counter arrays, the probe table and one short String per slot.
+     */
+    public long estimatedSizeInBytes() {
+        long perSlot = 3L * Long.BYTES + 3L * Integer.BYTES + 48;
+        return capacity * perSlot + (long) index.length * Integer.BYTES;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    private int[] sortedSlots(int k) {
+        Integer[] slots = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = i;
+        }
+        Arrays.sort(slots, (a, b) -> Long.compare(counts[b], counts[a]));
+        int limit = Math.min(Math.max(k, 0), size);
+        int[] result = new int[limit];
+        for (int i = 0; i < limit; i++) {
+            result[i] = slots[i];
+        }
+        return result;
+    }
+
+    private void link(int slot) {
+        int mask = index.length - 1;
+        int position = StringDictionary.spread(hashes[slot]) & mask;
+        while (index[position] != 0) {
+            position = (position + 1) & mask;
+        }
+        index[position] = slot + 1;
+    }
+
+    /**
+     * Removes {@code slot} from the probe table, shifting later entries of its cluster back so that
+     * lookups never stop at the hole.
+     */
+    private void unlink(int slot) {
+        int mask = index.length - 1;
+        int hole = StringDictionary.spread(hashes[slot]) & mask;
+        while (index[hole] != slot + 1) {
+            hole = (hole + 1) & mask;
+        }
+        for (int position = (hole + 1) & mask; index[position] != 0; position = (position + 1) & mask) {
+            int home = StringDictionary.spread(hashes[index[position] - 1]) & mask;
+            // Move the entry into the hole unless its home lies cyclically in (hole, position]
+            if (((position - home) & mask) >= ((position - hole) & mask)) {
+                index[hole] = index[position];
+                hole = position;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private void siftUp(int position) {
+        int slot = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[heap[parent]] <= counts[slot]) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(slot, position);
+    }
+
+    private void siftDown(int position) {
+        int slot = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) {
+                child++;
+            }
+            if (counts[slot] <= counts[heap[child]]) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(slot, position);
+    }
+
+    private void place(int slot, int position) {
+        heap[position] = slot;
+        heapIndex[slot] = position;
+    }
+}
@@ -0,0 +1,107 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Table from key (e.g. customer ID) to a primitive double total, keyed by dictionary code.
+ *
+ * <p>The double counterpart of {@link WordCountTable}: no Entry node and no boxed Double per key, as
+ * {@code groupingBy(..., summingDouble(...))} would create. Each distinct key is encoded once into a dense
+ * customer code by a {@link StringDictionary}; totals live in a {@code double[]} indexed by that code, so
+ * merging and top-N selection walk a packed array instead of a sparse hash table.</p>
+ *
+ * <p>Not thread-safe: use one table per thread and {@link #mergeFrom(SpendTable)} the results.</p>
+ */
+public final class SpendTable {
+
+    private final StringDictionary codes;
+    private double[] totals;
+
+    public SpendTable() {
+        this(16);
+    }
+
+    /**
+     * @param expectedKeys expected number of distinct keys
+     */
+    public SpendTable(int expectedKeys) {
+        codes = new StringDictionary(expectedKeys);
+        totals = new double[codes.capacity()];
+    }
+
+    /**
+     * Adds {@code amount} to the total of {@code key}.
+     */
+    public void add(String key, double amount) {
+        add(key, key.hashCode(), amount);
+    }
+
+    /**
+     * Same as {@link #add(String, double)} with the key's precomputed {@code hashCode()}.
+     */
+    public void add(String key, int hash, double amount) {
+        int code = codes.intern(key, hash);
+        if (code == totals.length) {
+            totals = Arrays.copyOf(totals, codes.capacity());
+        }
+        totals[code] += amount;
+    }
+
+    /**
+     * @return total of {@code key}, or 0 if it was never added
+     */
+    public double get(String key) {
+        int code = codes.find(key, key.hashCode());
+        return code < 0 ? 0 : totals[code];
+    }
+
+    /**
+     * Adds every total of {@code other} into this table.
+     */
+    public void mergeFrom(SpendTable other) {
+        for (int code = 0; code < other.codes.size(); code++) {
+            add(other.codes.key(code), other.codes.hash(code), other.totals[code]);
+        }
+    }
+
+    public void forEach(ObjDoubleConsumer<String> action) {
+        for (int code = 0; code < codes.size(); code++) {
+            action.accept(codes.key(code), totals[code]);
+        }
+    }
+
+    /**
+     * Selects the {@code k} largest totals with a {@link BoundedHeap}: O(n log k) instead of sorting every
+     * key. Ties are broken by key so results are stable.
+     *
+     * @return key -> total in descending total order
+     */
+    public Map<String, Double> top(int k) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int code : BoundedHeap.top(codes.size(), k, code -> true, this::ranksBefore)) {
+            result.put(codes.key(code), totals[code]);
+        }
+        return result;
+    }
+
+    /**
+     * @return number of distinct keys
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * @return true if code {@code a} ranks before (has a larger total than) code {@code b}
+     */
+    private boolean ranksBefore(int a, int b) {
+        int byTotal = Double.compare(totals[a], totals[b]);
+        if (byTotal != 0) {
+            return byTotal > 0;
+        }
+        return codes.key(a).compareTo(codes.key(b)) < 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.test.util;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary encoding of Strings: assigns each distinct key a dense int code (0, 1, 2, ... in order of
+ * first appearance), so callers can keep per-key values in plain primitive arrays indexed by code.
+ *
+ * <p>The lookup side is an open-addressing table of {@code code + 1} (0 marks an empty slot) probed
+ * linearly; keys and their cached hashes are stored by code. Rehashing only rebuilds the slot array,
+ * and iterating all keys walks {@code 0..size()-1} without visiting empty slots.</p>
+ *
+ * <p>Not thread-safe.</p>
+ */
+final class StringDictionary {
+
+    private int[] slots;
+    private String[] keys;
+    private int[] hashes;
+    private int size;
+
+    /**
+     * @param expectedKeys expected number of distinct keys
+     */
+    StringDictionary(int expectedKeys) {
+        slots = new int[Integer.highestOneBit(Math.max(16, expectedKeys * 2 - 1)) << 1];
+        keys = new String[slots.length / 2];
+        hashes = new int[slots.length / 2];
+    }
+
+    /**
+     * @param hash {@code key.hashCode()}
+     * @return code of {@code key}, or -1 if it was never added
+     */
+    int find(String key, int hash) {
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int code = slots[slot] - 1;
+            if (hashes[code] == hash && keys[code].equals(key)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param hash {@code key.hashCode()}
+     * @return code of {@code key}, assigning the next code if it is new
+     */
+    int intern(String key, int hash) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            int code = slots[slot] - 1;
+            if (hashes[code] == hash && keys[code].equals(key)) {
+                return code;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return insert(slot, key, hash);
+    }
+
+    /**
+     * Same as {@link #intern(String, int)} for the key held in {@code buffer[0, length)}; a String is
+     * allocated only when the key is new.
+     *
+     * @param hash {@link #hashOf(char[], int)} of the slice
+     */
+    int intern(char[] buffer, int length, int hash) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            int code = slots[slot] - 1;
+            if (hashes[code] == hash && matches(keys[code], buffer, length)) {
+                return code;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return insert(slot, new String(buffer, 0, length), hash);
+    }
+
+    String key(int code) {
+        return keys[code];
+    }
+
+    int hash(int code) {
+        return hashes[code];
+    }
+
+    /**
+     * @return number of distinct keys; codes are {@code 0..size()-1}
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return number of codes that fit before the next rehash; the length to grow code-indexed value arrays to
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    private int insert(int slot, String key, int hash) {
+        int code = size++;
+        keys[code] = key;
+        hashes[code] = hash;
+        slots[slot] = code + 1;
+        if (size * 2 >= slots.length) {
+            rehash();
+        }
+        return code;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        keys = Arrays.copyOf(keys, slots.length / 2);
+        hashes = Arrays.copyOf(hashes, slots.length / 2);
+        int mask = slots.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = spread(hashes[code]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = code + 1;
+        }
+    }
+
+    /**
+     * @return {@link String#hashCode()} of the chars in {@code buffer[0, length)}, without creating the String
+     */
+    static int hashOf(char[] buffer, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash;
+    }
+
+    /**
+     * @return true if {@code key} consists of exactly the chars in {@code buffer[0, length)}
+     */
+    static boolean matches(String key, char[] buffer, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Slot hash; uses the low bits of the scrambled hash, so callers partitioning keys should use the high bits.
+     */
+    static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
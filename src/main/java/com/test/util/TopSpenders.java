@@ -0,0 +1,103 @@
+package com.test.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Top-N keys by summed amount (e.g. customers by spend) without sorting every key.
+ *
+ * <h3>How it works</h3>
+ * <ol>
+ *     <li><strong>Aggregate:</strong> each input chunk sums amounts into P {@link SpendTable}s, one per key
+ *         partition; a key's partition comes from the high bits of its hash, so every key lives in exactly
+ *         one partition</li>
+ *     <li><strong>Per-partition top-N:</strong> partition p merges the chunk tables for p and selects its
+ *         top N with a bounded heap. Partitions are disjoint, so these merges run in parallel and no
+ *         cross-partition total is ever needed</li>
+ *     <li><strong>Final merge:</strong> the global top N is among the P x N partition winners</li>
+ * </ol>
+ *
+ * <p>Small inputs use a single table and skip the partitioning.</p>
+ */
+public final class TopSpenders {
+
+    /** Inputs smaller than this are aggregated sequentially into one table. */
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private TopSpenders() {
+    }
+
+    /**
+     * @param items input records
+     * @param filter records to include
+     * @param key grouping key of a record (e.g. customer ID); must not be null
+     * @param amount amount of a record to add to its key
+     * @param n number of keys to return
+     * @return key -> total for the {@code n} largest totals, descending (ties by key)
+     */
+    public static <T> Map<String, Double> topN(List<T> items, Predicate<? super T> filter,
+                                               Function<? super T, String> key, ToDoubleFunction<? super T> amount,
+                                               int n) {
+        if (items.size() < PARALLEL_THRESHOLD) {
+            SpendTable table = new SpendTable();
+            for (T item : items) {
+                if (filter.test(item)) {
+                    table.add(key.apply(item), amount.applyAsDouble(item));
+                }
+            }
+            return table.top(n);
+        }
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int partitionBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, parallelism * 2 - 1));
+        int partitions = 1 << partitionBits;
+        int chunks = Math.max(1, Math.min(parallelism * 4, items.size() / (PARALLEL_THRESHOLD / 4)));
+        int chunkSize = (items.size() + chunks - 1) / chunks;
+
+        // 1. Per chunk, one table per partition
+        SpendTable[][] tables = new SpendTable[chunks][partitions];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            SpendTable[] local = tables[c];
+            for (int p = 0; p < partitions; p++) {
+                local[p] = new SpendTable();
+            }
+            int end = Math.min(items.size(), (c + 1) * chunkSize);
+            for (T item : items.subList(Math.min(c * chunkSize, end), end)) {
+                if (filter.test(item)) {
+                    String k = key.apply(item);
+                    int hash = k.hashCode();
+                    local[StringDictionary.spread(hash) >>> (32 - partitionBits)].add(k, hash, amount.applyAsDouble(item));
+                }
+            }
+        });
+
+        // 2. Per partition, merge chunk tables and keep the local top n
+        List<Map<String, Double>> winners = IntStream.range(0, partitions).parallel()
+            .mapToObj(p -> {
+                SpendTable merged = tables[0][p];
+                for (int c = 1; c < chunks; c++) {
+                    merged.mergeFrom(tables[c][p]);
+                }
+                return merged.top(n);
+            })
+            .collect(Collectors.toList());
+
+        // 3. Global top n among at most partitions * n candidates
+        List<Map.Entry<String, Double>> candidates = new ArrayList<>();
+        winners.forEach(winner -> candidates.addAll(winner.entrySet()));
+        candidates.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : candidates.subList(0, Math.min(Math.max(n, 0), candidates.size()))) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+}
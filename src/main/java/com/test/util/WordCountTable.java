@@ -0,0 +1,174 @@
+package com.test.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Table from word to primitive long count, keyed by dictionary code.
+ *
+ * <p>Compared with {@code HashMap<String, Long>} (or groupingBy + counting) there is no Entry node
+ * and no boxed Long per word, and lookups from a {@link WordTokenizer} slice compare chars in place:
+ * a String is allocated only the first time a word is seen. A {@link StringDictionary} maps each word
+ * to a dense code, and counts live in a {@code long[]} indexed by that code.</p>
+ *
+ * <p>Not thread-safe: use one table per thread and {@link #mergeFrom(WordCountTable)} the results.</p>
+ */
+public final class WordCountTable implements WordTokenizer.TokenSink {
+
+    private static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private final StringDictionary codes;
+    private long[] counts;
+    private long total;
+
+    public WordCountTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedWords expected number of distinct words
+     */
+    public WordCountTable(int expectedWords) {
+        codes = new StringDictionary(expectedWords);
+        counts = new long[codes.capacity()];
+    }
+
+    /**
+     * Counts one occurrence of the word held in {@code buffer[0, length)}.
+     */
+    @Override
+    public void accept(char[] buffer, int length) {
+        increment(codes.intern(buffer, length, StringDictionary.hashOf(buffer, length)), 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code word}.
+     */
+    public void add(String word, long count) {
+        increment(codes.intern(word, word.hashCode()), count);
+    }
+
+    /**
+     * @return count of {@code word}, or 0 if it was never seen
+     */
+    public long get(String word) {
+        int code = codes.find(word, word.hashCode());
+        return code < 0 ? 0 : counts[code];
+    }
+
+    /**
+     * Adds every count of {@code other} into this table.
+     */
+    public void mergeFrom(WordCountTable other) {
+        other.forEach(this::add);
+    }
+
+    /**
+     * Subtracts every count of {@code other} from this table. Words whose count drops to zero keep
+     * their code (codes are dense and never reused) and are skipped by {@link #top(int)};
+     * use {@link #compact()} to reclaim them.
+     */
+    public void subtract(WordCountTable other) {
+        other.forEach((word, count) -> add(word, -count));
+    }
+
+    /**
+     * @return a new table holding only the words with a positive count
+     */
+    public WordCountTable compact() {
+        WordCountTable live = new WordCountTable(codes.size());
+        forEach((word, count) -> {
+            if (count > 0) {
+                live.add(word, count);
+            }
+        });
+        return live;
+    }
+
+    public void forEach(ObjLongConsumer<String> action) {
+        for (int code = 0; code < codes.size(); code++) {
+            action.accept(codes.key(code), counts[code]);
+        }
+    }
+
+    /**
+     * Sorts every distinct word by descending count and keeps the first {@code limit}. Ties are broken
+     * alphabetically, as in {@link #top(int)}.
+     *
+     * @return word -> count in descending count order
+     */
+    public Map<String, Long> sortedByCount(int limit) {
+        Integer[] ids = new Integer[codes.size()];
+        Arrays.setAll(ids, code -> code);
+        Arrays.sort(ids, Comparator.comparingLong((Integer code) -> counts[code]).reversed()
+            .thenComparing(codes::key));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(limit, ids.length); i++) {
+            result.put(codes.key(ids[i]), counts[ids[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Selects the {@code k} most frequent words with a {@link BoundedHeap}: O(n log k) instead of
+     * sorting every distinct word. Ties are broken alphabetically so results are stable.
+     *
+     * @return word -> count in descending count order
+     */
+    public Map<String, Long> top(int k) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        // Skip words fully subtracted away
+        for (int code : BoundedHeap.top(codes.size(), k, code -> counts[code] > 0, this::ranksBefore)) {
+            result.put(codes.key(code), counts[code]);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the word with code {@code a} ranks before (is more frequent than) the word with code {@code b}
+     */
+    private boolean ranksBefore(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return counts[a] > counts[b];
+        }
+        return codes.key(a).compareTo(codes.key(b)) < 0;
+    }
+
+    /**
+     * @return number of distinct words
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * @return total number of words counted
+     */
+    public long total() {
+        return total;
+    }
+
+    private void increment(int code, long count) {
+        if (code == counts.length) {
+            counts = Arrays.copyOf(counts, codes.capacity());
+        }
+        counts[code] += count;
+        total += count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("{");
+        forEach((word, count) -> {
+            if (out.length() > 1) {
+                out.append(", ");
+            }
+            out.append(word).append('=').append(count);
+        });
+        return out.append('}').toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.test.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Single-pass word tokenizer equivalent to {@code text.toLowerCase(Locale.ROOT).split("\\W+")}
+ * with blank tokens dropped.
+ *
+ * <p>A word is a maximal run of {@code [A-Za-z0-9_]}; every other character is a separator.
+ * Characters are lowercased as they are scanned into a reusable token buffer and each token is
+ * handed to a {@link TokenSink} as a (buffer, length) slice - no lowercase copy of the text, no
+ * regex, no token array and no String per token. Sinks that need a String (such as
+ * {@link WordCountTable} on first sight of a word) create it themselves.</p>
+ *
+ * <p>Works on any CharSequence, a {@link Reader} or an {@link InputStream}, so multi-MB texts can
+ * be counted straight from the request or a file without being materialized.</p>
+ */
+public final class WordTokenizer {
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Receives tokens. The buffer is reused for the next token, so implementations must copy
+     * anything they keep.
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(char[] buffer, int length);
+    }
+
+    private char[] token = new char[32];
+    private int length;
+
+    /**
+     * Tokenizes an in-memory text.
+     */
+    public static void tokenize(CharSequence text, TokenSink sink) {
+        WordTokenizer tokenizer = new WordTokenizer();
+        for (int i = 0, n = text.length(); i < n; i++) {
+            tokenizer.feed(text.charAt(i), sink);
+        }
+        tokenizer.finish(sink);
+    }
+
+    /**
+     * Tokenizes a character stream in fixed-size chunks. Tokens spanning chunk boundaries are handled.
+     * The reader is not closed.
+     */
+    public static void tokenize(Reader reader, TokenSink sink) throws IOException {
+        WordTokenizer tokenizer = new WordTokenizer();
+        char[] chunk = new char[READ_BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                tokenizer.feed(chunk[i], sink);
+            }
+        }
+        tokenizer.finish(sink);
+    }
+
+    /**
+     * Tokenizes a byte stream decoded with the given charset. The stream is not closed.
+     */
+    public static void tokenize(InputStream in, Charset charset, TokenSink sink) throws IOException {
+        tokenize(new InputStreamReader(in, charset), sink);
+    }
+
+    /**
+     * Feeds one character; emits the pending token when a separator ends it.
+     */
+    public void feed(char c, TokenSink sink) {
+        if (c >= 'A' && c <= 'Z') {
+            append((char) (c + ('a' - 'A')));
+        } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_') {
+            append(c);
+        } else if (length > 0) {
+            sink.accept(token, length);
+            length = 0;
+        }
+    }
+
+    /**
+     * Emits the trailing token, if any.
+     */
+    public void finish(TokenSink sink) {
+        if (length > 0) {
+            sink.accept(token, length);
+            length = 0;
+        }
+    }
+
+    /**
+     * @return true if {@code c} is part of a word, i.e. matches {@code \w}
+     */
+    public static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private void append(char c) {
+        if (length == token.length) {
+            token = Arrays.copyOf(token, length * 2);
+        }
+        token[length++] = c;
+    }
+}